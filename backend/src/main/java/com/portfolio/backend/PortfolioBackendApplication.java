@@ -3,10 +3,12 @@ package com.portfolio.backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.flywaydb.core.Flyway;
 
 @SpringBootApplication
+@EnableScheduling
 public class PortfolioBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,61 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.service.ContentVersionService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process caches for the public portfolio reads. Entries are evicted after every committed
+ * write (see ContentVersionService); the TTL only bounds staleness for changes made outside the app.
+ * Entries carry the content version they were loaded under, so a load that raced a write is
+ * never served after it (see VersionStampedCache).
+ * Hit/miss counts are exported by actuator as {@code cache.gets}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PROFILE = "profile";
+    public static final String SKILLS = "skills";
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT = "project";
+    public static final String EXPERIENCE = "experience";
+    public static final String EDUCATION = "education";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.public.max-size:200}") long maxSize,
+                                     @Value("${app.cache.public.ttl:PT6H}") Duration ttl,
+                                     ObjectProvider<ContentVersionService> contentVersions) {
+        // ContentVersionService itself needs the CacheManager, so it is looked up on first use
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new VersionStampedCache(super.adaptCaffeineCache(name, cache),
+                        () -> contentVersions.getObject().versionOfCache(name));
+            }
+        };
+        cacheManager.setCacheNames(List.of(PROFILE, SKILLS, PROJECTS, PROJECT, EXPERIENCE, EDUCATION));
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        return cacheManager;
+    }
+
+    // Keeps cache.gets and friends exported for the wrapped caches
+    @Bean
+    CacheMeterBinderProvider<VersionStampedCache> versionStampedCacheMeterBinderProvider() {
+        return new VersionStampedCacheMeterBinderProvider();
+    }
+}
@@ -1,6 +1,7 @@
 package com.portfolio.backend.config;
 
 import com.cloudinary.Cloudinary;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,12 +21,30 @@ public class CloudinaryConfig {
     @Value("${cloudinary.api-secret}")
     private String apiSecret;
 
+    /**
+     * Connection pool shared by the uploader and the Admin API, sized to the client's bulkhead:
+     * every call holding a permit gets a connection, and none are opened beyond that.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager cloudinaryConnectionManager(
+            @Value("${cloudinary.client.max-concurrent-calls:8}") int maxConcurrentCalls) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConcurrentCalls);
+        // Everything goes to the same host, so the per-route limit is the real one
+        connectionManager.setDefaultMaxPerRoute(maxConcurrentCalls);
+        return connectionManager;
+    }
+
     @Bean
-    public Cloudinary cloudinary() {
-        Map<String, String> config = new HashMap<>();
+    public Cloudinary cloudinary(PoolingHttpClientConnectionManager cloudinaryConnectionManager) {
+        Map<String, Object> config = new HashMap<>();
         config.put("cloud_name", cloudName);
         config.put("api_key", apiKey);
         config.put("api_secret", apiSecret);
+        // Object-valued settings go under "properties"; the http44 strategies look the manager up
+        // there each time they build an HTTP client (once per uploader()/api() call), so all of
+        // those clients share this one pool instead of each opening their own
+        config.put("properties", Map.of("connectionManager", cloudinaryConnectionManager));
         return new Cloudinary(config);
     }
 }
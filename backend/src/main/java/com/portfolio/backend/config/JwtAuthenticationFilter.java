@@ -1,28 +1,41 @@
 package com.portfolio.backend.config;
 
 import com.portfolio.backend.service.JwtService;
+import com.portfolio.backend.service.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
+import com.portfolio.backend.service.TokenVersionService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from the JWT alone: the principal and its authorities come from the
+ * verified claims, and revocation is checked against the cached token version, so an
+ * authenticated request costs no database round trip.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return SecurityConfig.PUBLIC_READS.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -60,12 +73,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         jwt = token;
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            VerifiedToken verified = jwtService.verify(jwt);
+            userEmail = verified.getSubject();
             System.out.println("JwtAuthFilter: User email from token: " + userEmail);
             
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                Integer tokenVersion = verified.getTokenVersion();
+                // Tokens without a version predate revocation support; their holders sign in again
+                if (tokenVersion != null && tokenVersionService.isCurrent(userEmail, tokenVersion)) {
+                    UserDetails userDetails = User.withUsername(userEmail)
+                            .password("")
+                            .authorities(AuthorityUtils.createAuthorityList(verified.getRoles()))
+                            .build();
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -77,7 +96,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     System.out.println("JwtAuthFilter: Authenticated user " + userEmail + " with authorities: " + userDetails.getAuthorities());
                 } else {
-                     System.out.println("JwtAuthFilter: Invalid token");
+                     System.out.println("JwtAuthFilter: Revoked or outdated token");
                 }
             }
         } catch (Exception e) {
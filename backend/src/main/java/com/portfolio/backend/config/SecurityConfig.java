@@ -7,8 +7,13 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,12 +22,31 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 
 import java.util.List;
 
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * Anonymous portfolio reads. Nothing behind them looks at the caller, so the JWT filter
+     * skips them entirely.
+     */
+    static final RequestMatcher PUBLIC_READS = new OrRequestMatcher(
+            antMatcher(HttpMethod.GET, "/api/profile"),
+            antMatcher(HttpMethod.GET, "/api/skills"),
+            antMatcher(HttpMethod.GET, "/api/projects"),
+            antMatcher(HttpMethod.GET, "/api/projects/*"),
+            antMatcher(HttpMethod.GET, "/api/experience"),
+            antMatcher(HttpMethod.GET, "/api/blogs"),
+            new AndRequestMatcher(
+                    antMatcher(HttpMethod.GET, "/api/blogs/*"),
+                    new NegatedRequestMatcher(antMatcher("/api/blogs/admin"))),
+            antMatcher(HttpMethod.GET, "/api/public/**")
+    );
+
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
 
@@ -33,6 +57,7 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints - No authentication required
+                .requestMatchers(PUBLIC_READS).permitAll()
                 .requestMatchers("/api/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/api/profile/**", "/api/skills/**", "/api/projects/**", "/api/blogs/**", "/api/experience/**", "/api/contact/**", "/api/public/**").permitAll() 
                 // Admin endpoints - Require ADMIN role
@@ -0,0 +1,124 @@
+package com.portfolio.backend.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.LongSupplier;
+
+/**
+ * Stores each value with the content version that was current before it was loaded, and treats
+ * entries from an older version as misses. A reader that loaded data before a write committed
+ * can therefore not re-populate the cache with that data after the write's eviction.
+ */
+final class VersionStampedCache implements Cache {
+
+    private final Cache delegate;
+    private final LongSupplier currentVersion;
+
+    // Version seen by this thread's miss on a key, consumed by the put that @Cacheable makes after loading
+    private final ThreadLocal<Map<Object, Long>> missVersions = ThreadLocal.withInitial(HashMap::new);
+
+    VersionStampedCache(Cache delegate, LongSupplier currentVersion) {
+        this.delegate = delegate;
+        this.currentVersion = currentVersion;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long version = currentVersion.getAsLong();
+        Stamped stamped = lookup(key, version);
+        if (stamped == null) {
+            missVersions.get().put(key, version);
+            return null;
+        }
+        return new SimpleValueWrapper(stamped.value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long version = currentVersion.getAsLong();
+        Stamped stamped = lookup(key, version);
+        if (stamped != null) {
+            return (T) stamped.value;
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        delegate.put(key, new Stamped(version, value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Long version = missVersions.get().remove(key);
+        delegate.put(key, new Stamped(version != null ? version : currentVersion.getAsLong(), value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private Stamped lookup(Object key, long version) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Stamped stamped = (Stamped) wrapper.get();
+        // Loaded under an older version: the data may predate the last committed write
+        return stamped != null && stamped.version == version ? stamped : null;
+    }
+
+    private static final class Stamped {
+        private final long version;
+        private final Object value;
+
+        private Stamped(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
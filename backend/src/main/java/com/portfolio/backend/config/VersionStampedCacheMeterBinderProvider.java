@@ -0,0 +1,20 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * Boot only binds Caffeine metrics to {@code CaffeineCache} instances, so the wrapped caches get
+ * theirs here, from the native Caffeine cache underneath.
+ */
+final class VersionStampedCacheMeterBinderProvider implements CacheMeterBinderProvider<VersionStampedCache> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MeterBinder getMeterBinder(VersionStampedCache cache, Iterable<Tag> tags) {
+        return new CaffeineCacheMetrics<>((Cache<Object, Object>) cache.getNativeCache(), cache.getName(), tags);
+    }
+}
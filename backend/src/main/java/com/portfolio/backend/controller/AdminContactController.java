@@ -0,0 +1,47 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.service.ContactExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/admin/contact")
+@RequiredArgsConstructor
+public class AdminContactController {
+
+    private final ContactExportService contactExportService;
+
+    /**
+     * Export contact messages (oldest first) for import into a CRM.
+     * Streamed row by row, so the download starts immediately whatever the table size.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since
+    ) {
+        ContactExportService.Format exportFormat;
+        try {
+            exportFormat = ContactExportService.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String fileName = "contact-messages-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType() + "; charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
+                .body(out -> contactExportService.export(exportFormat, since, out));
+    }
+}
@@ -1,8 +1,10 @@
 package com.portfolio.backend.controller;
 
-import com.portfolio.backend.entity.MediaFile;
+import com.portfolio.backend.entity.MediaType;
 import com.portfolio.backend.service.BlogService;
 import com.portfolio.backend.service.MediaService;
+import com.portfolio.backend.service.MediaUploadJob;
+import com.portfolio.backend.service.MediaUploadJobService;
 import com.portfolio.backend.service.ProfileService;
 import com.portfolio.backend.service.ProjectService;
 import com.portfolio.backend.service.SkillService;
@@ -11,6 +13,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
 import java.util.Map;
 import java.util.UUID;
 
@@ -20,45 +25,41 @@ import java.util.UUID;
 public class AdminImageController {
 
     private final MediaService mediaService;
+    private final MediaUploadJobService mediaUploadJobService;
     private final ProfileService profileService;
     private final ProjectService projectService;
     private final BlogService blogService;
     private final SkillService skillService;
 
+    // Uploads are queued; the owning record is updated by the worker once the asset exists.
+    // Clients poll /api/admin/media/jobs/{jobId} for the resulting URL.
+
     @PostMapping("/profile/image")
-    public ResponseEntity<?> uploadProfileImage(@RequestParam("file") MultipartFile file) {
-        MediaFile media = mediaService.uploadImage(file, "profile");
-        String url = media.getUrl();
-        String oldUrl = profileService.updateProfileImage(url);
-        deleteOldImage(oldUrl);
-        return ResponseEntity.ok(Map.of("url", url));
+    public ResponseEntity<?> uploadProfileImage(@RequestParam("file") MultipartFile file) throws IOException {
+        MediaUploadJob job = mediaUploadJobService.submit(file, MediaType.IMAGE, "portfolio/profile",
+                media -> deleteOldImage(profileService.updateProfileImage(media.getUrl())));
+        return accepted(job);
     }
 
     @PostMapping("/projects/{id}/image")
-    public ResponseEntity<?> uploadProjectImage(@PathVariable UUID id, @RequestParam("file") MultipartFile file) {
-        MediaFile media = mediaService.uploadImage(file, "projects");
-        String url = media.getUrl();
-        String oldUrl = projectService.updateProjectImage(id, url);
-        deleteOldImage(oldUrl);
-        return ResponseEntity.ok(Map.of("url", url));
+    public ResponseEntity<?> uploadProjectImage(@PathVariable UUID id, @RequestParam("file") MultipartFile file) throws IOException {
+        MediaUploadJob job = mediaUploadJobService.submit(file, MediaType.IMAGE, "portfolio/projects",
+                media -> deleteOldImage(projectService.updateProjectImage(id, media.getUrl())));
+        return accepted(job);
     }
 
     @PostMapping("/blogs/{id}/thumbnail")
-    public ResponseEntity<?> uploadBlogThumbnail(@PathVariable UUID id, @RequestParam("file") MultipartFile file) {
-        MediaFile media = mediaService.uploadImage(file, "blogs");
-        String url = media.getUrl();
-        String oldUrl = blogService.updateBlogThumbnail(id, url);
-        deleteOldImage(oldUrl);
-        return ResponseEntity.ok(Map.of("url", url));
+    public ResponseEntity<?> uploadBlogThumbnail(@PathVariable UUID id, @RequestParam("file") MultipartFile file) throws IOException {
+        MediaUploadJob job = mediaUploadJobService.submit(file, MediaType.IMAGE, "portfolio/blogs",
+                media -> deleteOldImage(blogService.updateBlogThumbnail(id, media.getUrl())));
+        return accepted(job);
     }
 
     @PostMapping("/skills/{id}/icon")
-    public ResponseEntity<?> uploadSkillIcon(@PathVariable UUID id, @RequestParam("file") MultipartFile file) {
-        MediaFile media = mediaService.uploadImage(file, "skills");
-        String url = media.getUrl();
-        String oldUrl = skillService.updateSkillIcon(id, url);
-        deleteOldImage(oldUrl);
-        return ResponseEntity.ok(Map.of("url", url));
+    public ResponseEntity<?> uploadSkillIcon(@PathVariable UUID id, @RequestParam("file") MultipartFile file) throws IOException {
+        MediaUploadJob job = mediaUploadJobService.submit(file, MediaType.IMAGE, "portfolio/skills",
+                media -> deleteOldImage(skillService.updateSkillIcon(id, media.getUrl())));
+        return accepted(job);
     }
 
     @DeleteMapping("/images")
@@ -82,9 +83,21 @@ public class AdminImageController {
         return ResponseEntity.ok("Image deleted successfully");
     }
 
+    private ResponseEntity<?> accepted(MediaUploadJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/media/jobs/" + job.getId()))
+                .body(Map.of("jobId", job.getId(), "status", job.getStatus()));
+    }
+
+    // Runs after the record points at the new image, so a failure here must not fail the job
+    // (that would release the new image); the old asset is merely left behind
     private void deleteOldImage(String oldUrl) {
         if (oldUrl != null && !oldUrl.isEmpty()) {
-            mediaService.deleteMediaByUrl(oldUrl);
+            try {
+                mediaService.deleteMediaByUrl(oldUrl);
+            } catch (RuntimeException e) {
+                System.err.println("Failed to release replaced image " + oldUrl + ": " + e.getMessage());
+            }
         }
     }
 }
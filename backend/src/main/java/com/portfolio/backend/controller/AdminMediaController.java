@@ -1,18 +1,28 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
+import com.portfolio.backend.dto.CursorPage;
+import com.portfolio.backend.dto.MediaStats;
+import com.portfolio.backend.dto.MediaSummary;
+import com.portfolio.backend.dto.MediaUploadResultDTO;
 import com.portfolio.backend.entity.MediaFile;
 import com.portfolio.backend.entity.MediaType;
+import com.portfolio.backend.exception.ServiceBusyException;
+import com.portfolio.backend.service.MediaBatchUploadService;
 import com.portfolio.backend.service.MediaService;
+import com.portfolio.backend.service.MediaUploadJob;
+import com.portfolio.backend.service.MediaUploadJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/admin/media")
@@ -20,13 +30,16 @@ import java.util.Map;
 public class AdminMediaController {
 
     private final MediaService mediaService;
+    private final MediaUploadJobService mediaUploadJobService;
+    private final MediaBatchUploadService mediaBatchUploadService;
 
     /**
      * Upload image (profile, project, blog, skill)
      * Supports: jpg, png, webp, svg
+     * Accepted asynchronously: returns 202 with a job to poll at /jobs/{id}
      */
     @PostMapping("/upload/image")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> uploadImage(
+    public ResponseEntity<ApiResponse<MediaUploadJob>> uploadImage(
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "folder", defaultValue = "general") String folder) {
         try {
@@ -37,24 +50,63 @@ public class AdminMediaController {
                         .body(ApiResponse.error("Only image files are allowed"));
             }
 
-            MediaFile media = mediaService.uploadMedia(file, MediaType.IMAGE);
+            MediaUploadJob job = mediaUploadJobService.submit(file, MediaType.IMAGE, "portfolio/" + folder);
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/admin/media/jobs/" + job.getId()))
+                    .body(ApiResponse.success("Image upload accepted", job));
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to upload image: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Upload many images in one request
+     * Files are uploaded concurrently; the response reports SUCCESS, DEDUPLICATED or ERROR per file
+     */
+    @PostMapping("/upload/batch")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> uploadBatch(
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam(value = "folder", defaultValue = "general") String folder) {
+        try {
+            List<MediaUploadResultDTO> results = mediaBatchUploadService.uploadBatch(files, "portfolio/" + folder);
+            long failed = results.stream().filter(r -> MediaUploadResultDTO.ERROR.equals(r.getStatus())).count();
 
             Map<String, Object> responseData = new HashMap<>();
-            responseData.put("url", media.getUrl());
-            responseData.put("publicId", media.getPublicId());
-            responseData.put("id", media.getId());
-            responseData.put("uploadedAt", media.getUploadedAt());
+            responseData.put("results", results);
+            responseData.put("total", results.size());
+            responseData.put("failed", failed);
 
-            return ResponseEntity.ok(ApiResponse.success("Image uploaded successfully", responseData));
+            return ResponseEntity.ok(ApiResponse.success(
+                    (results.size() - failed) + " of " + results.size() + " images uploaded", responseData));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to upload image: " + e.getMessage()));
+                    .body(ApiResponse.error("Failed to upload images: " + e.getMessage()));
         }
     }
 
+    /**
+     * Get the progress of an asynchronous upload
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ApiResponse<MediaUploadJob>> getUploadJob(@PathVariable UUID id) {
+        return mediaUploadJobService.getJob(id)
+                .map(job -> ResponseEntity.ok(ApiResponse.success("Upload job " + job.getStatus(), job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Upload job not found")));
+    }
+
     /**
      * Upload CV/Resume (PDF only)
      * Automatically deactivates previous CV and sets new one as active
@@ -116,7 +168,7 @@ public class AdminMediaController {
 
     /**
      * Delete media by ID
-     * Deletes from both Cloudinary and database
+     * Deletes from both Cloudinary and database once no other upload shares the asset
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteMedia(@PathVariable Long id) {
@@ -135,7 +187,7 @@ public class AdminMediaController {
 
     /**
      * Delete media by publicId
-     * Deletes from both Cloudinary and database
+     * Deletes from both Cloudinary and database once no other upload shares the asset
      */
     @DeleteMapping("/by-public-id")
     public ResponseEntity<ApiResponse<Void>> deleteMediaByPublicId(@RequestParam String publicId) {
@@ -170,18 +222,22 @@ public class AdminMediaController {
     }
 
     /**
-     * Get all media files by type
-     * If type is null, returns all media files
+     * List media files, newest first, one page at a time
+     * Optional filters: type, active flag and file name prefix; pass nextCursor back as cursor
      */
     @GetMapping("/list")
-    public ResponseEntity<ApiResponse<List<MediaFile>>> listMedia(
-            @RequestParam(required = false) MediaType type) {
+    public ResponseEntity<ApiResponse<CursorPage<MediaSummary>>> listMedia(
+            @RequestParam(required = false) MediaType type,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<MediaFile> mediaFiles = type != null
-                    ? mediaService.getAllMediaByType(type)
-                    : mediaService.getAllActiveMedia();
-
-            return ResponseEntity.ok(ApiResponse.success("Media list retrieved", mediaFiles));
+            CursorPage<MediaSummary> page = mediaService.listMedia(type, active, prefix, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success("Media list retrieved", page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve media list: " + e.getMessage()));
@@ -189,13 +245,18 @@ public class AdminMediaController {
     }
 
     /**
-     * Get all active media files
+     * List active media files, newest first, one page at a time
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<MediaFile>>> listActiveMedia() {
+    public ResponseEntity<ApiResponse<CursorPage<MediaSummary>>> listActiveMedia(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<MediaFile> mediaFiles = mediaService.getAllActiveMedia();
-            return ResponseEntity.ok(ApiResponse.success("Active media retrieved", mediaFiles));
+            CursorPage<MediaSummary> page = mediaService.listMedia(null, true, null, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success("Active media retrieved", page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve active media: " + e.getMessage()));
@@ -225,10 +286,15 @@ public class AdminMediaController {
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getMediaStats() {
         try {
+            MediaStats snapshot = mediaService.getStats();
+
             Map<String, Object> stats = new HashMap<>();
-            stats.put("totalImages", mediaService.countActiveByType(MediaType.IMAGE));
-            stats.put("totalCVs", mediaService.countActiveByType(MediaType.CV));
-            stats.put("totalActive", mediaService.getAllActiveMedia().size());
+            stats.put("totalImages", snapshot.activeCount(MediaType.IMAGE));
+            stats.put("totalCVs", snapshot.activeCount(MediaType.CV));
+            stats.put("totalActive", snapshot.totalActive());
+            stats.put("imageBytes", snapshot.totalBytes(MediaType.IMAGE));
+            stats.put("cvBytes", snapshot.totalBytes(MediaType.CV));
+            stats.put("byType", Map.of("active", snapshot.getActive(), "inactive", snapshot.getInactive()));
 
             return ResponseEntity.ok(ApiResponse.success("Media statistics retrieved", stats));
         } catch (Exception e) {
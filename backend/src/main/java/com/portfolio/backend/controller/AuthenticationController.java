@@ -3,11 +3,14 @@ package com.portfolio.backend.controller;
 import com.portfolio.backend.dto.AuthenticationRequest;
 import com.portfolio.backend.dto.AuthenticationResponse;
 import com.portfolio.backend.dto.RegisterRequest;
+import com.portfolio.backend.service.AuthRateLimiter;
 import com.portfolio.backend.service.AuthenticationService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -20,19 +23,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthenticationController {
 
     private final AuthenticationService service;
+    private final AuthRateLimiter rateLimiter;
 
     @PostMapping("/register")
     public ResponseEntity<AuthenticationResponse> register(
-            @RequestBody RegisterRequest request
+            @RequestBody RegisterRequest request,
+            jakarta.servlet.http.HttpServletRequest httpRequest
     ) {
+        rateLimiter.checkRegister(httpRequest.getRemoteAddr());
         return ResponseEntity.ok(service.register(request));
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthenticationResponse> authenticate(
             @RequestBody AuthenticationRequest request,
+            jakarta.servlet.http.HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
+        // Limits are checked before any password hashing is queued
+        rateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getEmail());
         AuthenticationResponse authResponse = service.authenticate(request);
 
         // Access Token Cookie
@@ -96,6 +105,13 @@ public class AuthenticationController {
         );
     }
     
+    @PostMapping("/logout-all")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> logoutAll(Authentication authentication, HttpServletResponse response) {
+        service.logoutAll(authentication.getName());
+        return logout(response);
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(HttpServletResponse response) {
         Cookie cookie = new Cookie("accessToken", null);
@@ -3,14 +3,18 @@ package com.portfolio.backend.controller;
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.entity.BlogPost;
 import com.portfolio.backend.service.BlogService;
+import com.portfolio.backend.service.ContentAggregate;
+import com.portfolio.backend.service.ContentVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -20,13 +24,21 @@ import java.util.UUID;
 public class BlogController {
 
     private final BlogService service;
+    private final ContentVersionService contentVersionService;
 
     // Public: Get published blogs
     @GetMapping
     public ResponseEntity<ApiResponse<Page<BlogPost>>> getBlogs(
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(ApiResponse.success("Published blogs retrieved successfully", service.getPublishedPosts(pageable)));
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.BLOGS),
+                contentVersionService.lastModified(ContentAggregate.BLOGS))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Published blogs retrieved successfully", service.getPublishedPosts(pageable)));
     }
 
     @GetMapping("/{slug}")
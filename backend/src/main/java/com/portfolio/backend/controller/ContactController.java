@@ -1,7 +1,9 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
+import com.portfolio.backend.dto.ContactBulkRequestDTO;
 import com.portfolio.backend.dto.ContactRequestDTO;
+import com.portfolio.backend.dto.CursorPage;
 import com.portfolio.backend.entity.ContactMessage;
 import com.portfolio.backend.service.ContactService;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/contact")
@@ -32,8 +34,39 @@ public class ContactController {
     
     @GetMapping
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<ContactMessage>>> getAllMessages() {
-        return ResponseEntity.ok(ApiResponse.success("Messages retrieved successfully", service.getAllMessages()));
+    public ResponseEntity<ApiResponse<CursorPage<ContactMessage>>> getMessages(
+            @RequestParam(required = false) Boolean unread,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Messages retrieved successfully",
+                    service.listMessages(unread, q, cursor, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/unread-count")
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getUnreadCount() {
+        return ResponseEntity.ok(ApiResponse.success("Unread count retrieved successfully",
+                Map.of("unread", service.getUnreadCount())));
+    }
+
+    @PostMapping("/bulk/read")
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> markAllAsRead(@jakarta.validation.Valid @RequestBody ContactBulkRequestDTO dto) {
+        return ResponseEntity.ok(ApiResponse.success("Messages marked as read",
+                Map.of("updated", service.markMessagesAsRead(dto.getIds()))));
+    }
+
+    @PostMapping("/bulk/delete")
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> deleteAll(@jakarta.validation.Valid @RequestBody ContactBulkRequestDTO dto) {
+        return ResponseEntity.ok(ApiResponse.success("Messages deleted successfully",
+                Map.of("deleted", service.deleteMessages(dto.getIds()))));
     }
 
     @DeleteMapping("/{id}")
@@ -3,10 +3,14 @@ package com.portfolio.backend.controller;
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.dto.EducationRequestDTO;
 import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.service.ContentAggregate;
+import com.portfolio.backend.service.ContentVersionService;
 import com.portfolio.backend.service.EducationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,11 +21,18 @@ import java.util.UUID;
 public class EducationController {
 
     private final EducationService service;
+    private final ContentVersionService contentVersionService;
 
     // Public Endpoints
     @GetMapping("/public/education")
-    public ResponseEntity<ApiResponse<List<Education>>> getPublicEducation() {
-        return ResponseEntity.ok(ApiResponse.success("Public education retrieved successfully", service.getPublicEducation()));
+    public ResponseEntity<ApiResponse<List<Education>>> getPublicEducation(WebRequest request) {
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.EDUCATION),
+                contentVersionService.lastModified(ContentAggregate.EDUCATION))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Public education retrieved successfully", service.getPublicEducation()));
     }
 
     // Admin Endpoints
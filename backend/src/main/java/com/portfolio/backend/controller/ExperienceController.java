@@ -2,11 +2,15 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.entity.Experience;
+import com.portfolio.backend.service.ContentAggregate;
+import com.portfolio.backend.service.ContentVersionService;
 import com.portfolio.backend.service.ExperienceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,10 +21,17 @@ import java.util.UUID;
 public class ExperienceController {
 
     private final ExperienceService service;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Experience>>> getAllExperience() {
-        return ResponseEntity.ok(ApiResponse.success("Experience retrieved successfully", service.getAllExperience()));
+    public ResponseEntity<ApiResponse<List<Experience>>> getAllExperience(WebRequest request) {
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.EXPERIENCE),
+                contentVersionService.lastModified(ContentAggregate.EXPERIENCE))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Experience retrieved successfully", service.getAllExperience()));
     }
 
     @PostMapping
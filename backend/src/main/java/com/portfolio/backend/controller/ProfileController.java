@@ -2,11 +2,15 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.dto.ProfileDTO;
+import com.portfolio.backend.service.ContentAggregate;
+import com.portfolio.backend.service.ContentVersionService;
 import com.portfolio.backend.service.ProfileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/profile")
@@ -14,10 +18,17 @@ import org.springframework.web.bind.annotation.*;
 public class ProfileController {
 
     private final ProfileService service;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<ProfileDTO>> getProfile() {
-        return ResponseEntity.ok(ApiResponse.success("Profile retrieved successfully", service.getProfile()));
+    public ResponseEntity<ApiResponse<ProfileDTO>> getProfile(WebRequest request) {
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.PROFILE),
+                contentVersionService.lastModified(ContentAggregate.PROFILE))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Profile retrieved successfully", service.getProfile()));
     }
 
     @PostMapping
@@ -2,11 +2,15 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.service.ContentAggregate;
+import com.portfolio.backend.service.ContentVersionService;
 import com.portfolio.backend.service.ProjectService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,15 +21,28 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService service;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProjectDTO>>> getAllProjects() {
-        return ResponseEntity.ok(ApiResponse.success("Projects retrieved successfully", service.getAllProjects()));
+    public ResponseEntity<ApiResponse<List<ProjectDTO>>> getAllProjects(WebRequest request) {
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.PROJECTS),
+                contentVersionService.lastModified(ContentAggregate.PROJECTS))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Projects retrieved successfully", service.getAllProjects()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProjectDTO>> getProjectById(@PathVariable UUID id) {
-        return ResponseEntity.ok(ApiResponse.success("Project retrieved successfully", service.getProjectById(id)));
+    public ResponseEntity<ApiResponse<ProjectDTO>> getProjectById(@PathVariable UUID id, WebRequest request) {
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.PROJECTS),
+                contentVersionService.lastModified(ContentAggregate.PROJECTS))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Project retrieved successfully", service.getProjectById(id)));
     }
 
     @PostMapping
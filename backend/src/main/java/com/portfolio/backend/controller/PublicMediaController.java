@@ -3,7 +3,10 @@ package com.portfolio.backend.controller;
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.entity.MediaFile;
 import com.portfolio.backend.entity.MediaType;
+import com.portfolio.backend.service.FileDownloadService;
 import com.portfolio.backend.service.MediaService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.ByteArrayResource;
@@ -26,6 +29,7 @@ import java.util.Map;
 public class PublicMediaController {
 
     private final MediaService mediaService;
+    private final FileDownloadService fileDownloadService;
 
     /**
      * Get active CV URL for public download
@@ -55,32 +59,16 @@ public class PublicMediaController {
      * This avoids proxying large files through the backend and prevents potential timeouts or memory issues
      */
     /**
-     * Download CV directly from database BLOB
-     * Fulfills "database-backed storage (BLOB)" approach
+     * Download CV from local storage
+     * Supports Range/If-Range so PDF viewers and download managers only fetch the bytes they need
      */
     @org.springframework.beans.factory.annotation.Value("${app.upload-dir:uploads}")
     private String uploadDir;
 
     @GetMapping("/cv/download")
-    public ResponseEntity<Resource> downloadCV() {
-        try {
-            java.nio.file.Path pdfPath = java.nio.file.Paths.get(uploadDir, "cv", "Mukesh_Silwal_cv.pdf");
-            
-            if (!java.nio.file.Files.exists(pdfPath)) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-            }
-
-            Resource resource = new org.springframework.core.io.UrlResource(pdfPath.toUri());
-            
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, "application/pdf")
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"Mukesh_Silwal_cv.pdf\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                    .body(resource);
-
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public void downloadCV(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        java.nio.file.Path pdfPath = java.nio.file.Paths.get(uploadDir, "cv", "Mukesh_Silwal_cv.pdf");
+        fileDownloadService.serveFile(pdfPath, "application/pdf", "Mukesh_Silwal_cv.pdf", request, response);
     }
 
     @GetMapping("/cv/redirect")
@@ -0,0 +1,68 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.service.PortfolioSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/public")
+@RequiredArgsConstructor
+public class PublicSnapshotController {
+
+    private final PortfolioSnapshotService snapshotService;
+
+    /**
+     * Whole public portfolio in one document, written straight from pre-serialised bytes
+     * (gzip-encoded when the client accepts it).
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<byte[]> getSnapshot(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request
+    ) {
+        PortfolioSnapshotService.Rendered snapshot = snapshotService.getSnapshot();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // Each encoding is a distinct representation, so each gets its own strong validator
+        if (request.checkNotModified(gzip ? snapshot.getGzipEtag() : snapshot.getEtag())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=0") && param.matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
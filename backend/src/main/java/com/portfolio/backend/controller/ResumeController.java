@@ -2,21 +2,20 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.entity.Resume;
+import com.portfolio.backend.service.DownloadCounterService;
 import com.portfolio.backend.service.ResumeService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api")
@@ -24,6 +23,7 @@ import java.util.Map;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final DownloadCounterService downloadCounterService;
 
     @PostMapping(value = "/admin/cv/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Map<String, Object>>> uploadResume(@RequestParam("file") MultipartFile file) {
@@ -74,44 +74,17 @@ public class ResumeController {
     }
 
     @GetMapping("/public/cv/download")
-    public ResponseEntity<Resource> downloadResume() {
+    public ResponseEntity<StreamingResponseBody> downloadResume() {
         try {
-            resumeService.incrementDownloadCount();
             Resume resume = resumeService.getActiveResumeMetadata();
+            downloadCounterService.recordDownload(resume.getId());
             
             // Log details as requested (like HR/Admin endpoint)
             System.out.println("Public user requesting latest active CV: " + resume.getFileName() +
                     ", Uploaded: " + resume.getUploadedAt() + ", Type: " + resume.getContentType());
             
             String fileName = resume.getFileName() != null ? resume.getFileName() : "resume.pdf";
-
-            // If we have BLOB data, serve it directly
-            if (resume.getData() != null && resume.getData().length > 0) {
-                Resource resource = new ByteArrayResource(resume.getData());
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_TYPE, "application/pdf")
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                        .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                        .body(resource);
-            }
-
-            // Fallback: Cloudinary Proxy (Legacy support)
-            String urlString = resume.getUrl();
-            if (urlString != null && urlString.startsWith("http")) {
-                URL url = new URL(urlString);
-                byte[] bytes;
-                try (InputStream is = url.openStream()) {
-                    bytes = is.readAllBytes();
-                }
-                Resource resource = new ByteArrayResource(bytes);
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_TYPE, "application/pdf")
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(bytes.length))
-                        .body(resource);
-            }
-
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            return streamResume(resume, fileName, "application/pdf");
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -119,7 +92,7 @@ public class ResumeController {
     }
 
     @GetMapping("/admin/cv/download/latest")
-    public ResponseEntity<Resource> downloadLatestResume() {
+    public ResponseEntity<StreamingResponseBody> downloadLatestResume() {
         try {
             String username = org.springframework.security.core.context.SecurityContextHolder
                     .getContext().getAuthentication().getName();
@@ -132,27 +105,7 @@ public class ResumeController {
 
             String fileName = resume.getFileName() != null ? resume.getFileName() : "resume.pdf";
             String contentType = resume.getContentType() != null ? resume.getContentType() : "application/pdf";
-
-            byte[] data = null;
-            if (resume.getData() != null && resume.getData().length > 0) {
-                data = resume.getData();
-            } else if (resume.getUrl() != null && resume.getUrl().startsWith("http")) {
-                // Fallback to URL fetch if BLOB is missing
-                try (InputStream is = new URL(resume.getUrl()).openStream()) {
-                    data = is.readAllBytes();
-                }
-            }
-
-            if (data == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-            }
-
-            Resource resource = new ByteArrayResource(data);
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, contentType)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                    .body(resource);
+            return streamResume(resume, fileName, contentType);
 
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -160,4 +113,38 @@ public class ResumeController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Streams the resume body straight to the servlet output stream so heap usage per
+     * download stays constant regardless of file size.
+     */
+    private ResponseEntity<StreamingResponseBody> streamResume(Resume resume, String fileName, String contentType)
+            throws IOException {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate");
+
+        // If we have BLOB data, serve it directly
+        if (resumeService.hasContent(resume.getId())) {
+            UUID resumeId = resume.getId();
+            if (resume.getFileSize() != null) {
+                response.contentLength(resume.getFileSize());
+            }
+            return response.body(out -> resumeService.streamResumeData(resumeId, out));
+        }
+
+        // Fallback: Cloudinary Proxy (Legacy support)
+        String urlString = resume.getUrl();
+        if (urlString != null && urlString.startsWith("http")) {
+            URL url = new URL(urlString);
+            return response.body(out -> {
+                try (InputStream is = url.openStream()) {
+                    is.transferTo(out);
+                }
+            });
+        }
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.common.ApiResponse;
+import com.portfolio.backend.dto.SearchResultDTO;
+import com.portfolio.backend.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/public")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final SearchIndexService searchIndexService;
+
+    /** Ranked search over published blog posts and projects; the last word is matched as a prefix. */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<SearchResultDTO>>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        // Type-ahead sends whatever is in the box; anything past the cap adds cost, not precision
+        if (query.length() > MAX_QUERY_LENGTH) {
+            query = query.substring(0, MAX_QUERY_LENGTH);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully",
+                searchIndexService.search(query, limit)));
+    }
+}
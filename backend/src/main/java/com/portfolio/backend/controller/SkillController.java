@@ -2,11 +2,15 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.common.ApiResponse;
 import com.portfolio.backend.dto.SkillDTO;
+import com.portfolio.backend.service.ContentAggregate;
+import com.portfolio.backend.service.ContentVersionService;
 import com.portfolio.backend.service.SkillService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,10 +21,17 @@ import java.util.UUID;
 public class SkillController {
 
     private final SkillService service;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SkillDTO>>> getAllSkills() {
-        return ResponseEntity.ok(ApiResponse.success("Skills retrieved successfully", service.getAllSkills()));
+    public ResponseEntity<ApiResponse<List<SkillDTO>>> getAllSkills(WebRequest request) {
+        if (request.checkNotModified(contentVersionService.etag(ContentAggregate.SKILLS),
+                contentVersionService.lastModified(ContentAggregate.SKILLS))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Skills retrieved successfully", service.getAllSkills()));
     }
 
     @PostMapping
@@ -0,0 +1,19 @@
+package com.portfolio.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactBulkRequestDTO {
+    @NotEmpty(message = "At least one message id is required")
+    @Size(max = 500, message = "At most 500 messages can be changed at once")
+    private List<UUID> ids;
+}
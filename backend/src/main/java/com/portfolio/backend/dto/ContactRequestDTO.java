@@ -2,6 +2,7 @@ package com.portfolio.backend.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,12 +14,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ContactRequestDTO {
     @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must be at most 255 characters")
     private String senderName;
     
     @NotBlank(message = "Email is required")
     @Email(message = "Invalid email format")
+    @Size(max = 255, message = "Email must be at most 255 characters")
     private String senderEmail;
     
+    @Size(max = 255, message = "Subject must be at most 255 characters")
     private String subject;
     
     @NotBlank(message = "Message is required")
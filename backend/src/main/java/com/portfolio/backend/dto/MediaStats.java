@@ -0,0 +1,61 @@
+package com.portfolio.backend.dto;
+
+import com.portfolio.backend.entity.MediaType;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable media statistics: file count and total bytes per type, split by active flag.
+ * Changes produce a new instance via {@link #plus}.
+ */
+@Value
+public class MediaStats {
+
+    Map<MediaType, Counts> active;
+    Map<MediaType, Counts> inactive;
+
+    @Value
+    public static class Counts {
+        public static final Counts ZERO = new Counts(0, 0);
+
+        long count;
+        long bytes;
+    }
+
+    /** Builds a snapshot from rows of (fileType, active, count, sumOfFileSize). */
+    public static MediaStats fromRows(List<Object[]> rows) {
+        Map<MediaType, Counts> active = new EnumMap<>(MediaType.class);
+        Map<MediaType, Counts> inactive = new EnumMap<>(MediaType.class);
+        for (Object[] row : rows) {
+            Counts counts = new Counts(((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+            (Boolean.TRUE.equals(row[1]) ? active : inactive).put((MediaType) row[0], counts);
+        }
+        return new MediaStats(Collections.unmodifiableMap(active), Collections.unmodifiableMap(inactive));
+    }
+
+    public MediaStats plus(MediaType type, boolean isActive, long countDelta, long bytesDelta) {
+        Map<MediaType, Counts> target = new EnumMap<>(MediaType.class);
+        target.putAll(isActive ? active : inactive);
+        Counts current = target.getOrDefault(type, Counts.ZERO);
+        target.put(type, new Counts(current.getCount() + countDelta, current.getBytes() + bytesDelta));
+        Map<MediaType, Counts> frozen = Collections.unmodifiableMap(target);
+        return isActive ? new MediaStats(frozen, inactive) : new MediaStats(active, frozen);
+    }
+
+    public long activeCount(MediaType type) {
+        return active.getOrDefault(type, Counts.ZERO).getCount();
+    }
+
+    public long totalActive() {
+        return active.values().stream().mapToLong(Counts::getCount).sum();
+    }
+
+    public long totalBytes(MediaType type) {
+        return active.getOrDefault(type, Counts.ZERO).getBytes()
+                + inactive.getOrDefault(type, Counts.ZERO).getBytes();
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.backend.dto;
+
+import com.portfolio.backend.entity.MediaType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Media library row, selected column by column (JPQL constructor expression) so listing
+ * never hydrates MediaFile entities.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaSummary {
+    private Long id;
+    private MediaType fileType;
+    private String url;
+    private String publicId;
+    private Long fileSize;
+    private String fileName;
+    private LocalDateTime uploadedAt;
+    private boolean active;
+}
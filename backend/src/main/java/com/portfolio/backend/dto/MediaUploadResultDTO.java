@@ -0,0 +1,24 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaUploadResultDTO {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String DEDUPLICATED = "DEDUPLICATED";
+    public static final String ERROR = "ERROR";
+
+    private String fileName;
+    private String status;
+    private Long id;
+    private String url;
+    private String publicId;
+    private String error;
+}
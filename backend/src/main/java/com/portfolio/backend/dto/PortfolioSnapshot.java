@@ -0,0 +1,25 @@
+package com.portfolio.backend.dto;
+
+import com.portfolio.backend.entity.BlogPost;
+import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.entity.Experience;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Everything the public homepage renders, served as one document by {@code GET /api/public/snapshot}.
+ */
+@Data
+@Builder
+public class PortfolioSnapshot {
+    private ProfileDTO profile;
+    private List<SkillDTO> skills;
+    private List<ProjectDTO> projects;
+    private List<Experience> experience;
+    private List<Education> education;
+    private List<BlogPost> latestBlogs;
+    private LocalDateTime generatedAt;
+}
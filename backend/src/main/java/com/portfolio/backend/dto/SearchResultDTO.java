@@ -0,0 +1,25 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    public static final String BLOG = "BLOG";
+    public static final String PROJECT = "PROJECT";
+
+    private String type;
+    private UUID id;
+    private String title;
+    // Blog posts only
+    private String slug;
+    private String snippet;
+    private double score;
+}
@@ -0,0 +1,19 @@
+package com.portfolio.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a finished upload job: just enough for the client to reference the stored asset.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadedMediaDTO {
+    private Long id;
+    private String url;
+    private String publicId;
+}
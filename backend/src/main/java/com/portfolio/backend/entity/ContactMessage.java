@@ -37,10 +37,16 @@ public class ContactMessage {
     private String ipAddress;
 
     @CreationTimestamp
-    @Column(name = "created_at", updatable = false)
+    // Partition key of contact_messages (monthly ranges)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "is_read")
     @Builder.Default
     private boolean isRead = false;
+
+    // Near-duplicates of this message that were suppressed instead of stored
+    @Column(name = "duplicate_count", nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private int duplicateCount = 0;
 }
@@ -10,7 +10,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "media_files")
+@Table(name = "media_files", indexes = {
+        @Index(name = "ux_media_files_content_hash", columnList = "content_hash", unique = true)
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,12 +37,17 @@ public class MediaFile {
 
     private String fileName;
 
+    // SHA-256 of the uploaded bytes; identical uploads resolve to the same Cloudinary asset
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Number of places (profile, projects, blogs, skills...) that were handed this asset
+    @Builder.Default
+    @Column(name = "ref_count", columnDefinition = "integer default 1")
+    private int refCount = 1;
+
     @CreationTimestamp
     private LocalDateTime uploadedAt;
 
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    private byte[] data;
-
     private boolean active;
 }
@@ -0,0 +1,6 @@
+package com.portfolio.backend.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    DEAD
+}
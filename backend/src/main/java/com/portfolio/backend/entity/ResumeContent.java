@@ -0,0 +1,39 @@
+package com.portfolio.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.sql.Blob;
+import java.util.UUID;
+
+/**
+ * Binary payload of a {@link Resume}, kept in its own table so that metadata queries
+ * on resume_files never touch large-object pages.
+ */
+@Entity
+@Table(name = "resume_contents")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeContent {
+
+    @Id
+    private UUID resumeId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private Resume resume;
+
+    @Lob
+    private Blob data;
+}
@@ -45,6 +45,11 @@ public class User {
 
     private LocalDateTime lastLogin;
 
+    // Embedded in issued tokens; incrementing it revokes every token issued before
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int tokenVersion = 0;
+
     public enum Role {
         ADMIN, USER
     }
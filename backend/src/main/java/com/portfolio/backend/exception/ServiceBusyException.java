@@ -0,0 +1,17 @@
+package com.portfolio.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bounded work queue is full. Mapped to 503 with a Retry-After hint.
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.portfolio.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a caller exceeds a rate limit. Mapped to 429 with a Retry-After hint.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -2,8 +2,36 @@ package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.ContactMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ContactMessageRepository extends JpaRepository<ContactMessage, UUID> {
+public interface ContactMessageRepository extends JpaRepository<ContactMessage, UUID>, ContactMessageRepositoryCustom {
     long countByIsReadFalse();
+
+    /**
+     * Oldest-first messages since the given time, read through a server-side cursor. Must be
+     * consumed inside a transaction, and callers should detach rows as they go.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM ContactMessage c WHERE c.createdAt >= :since ORDER BY c.createdAt, c.id")
+    Stream<ContactMessage> streamSince(@Param("since") LocalDateTime since);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ContactMessage c SET c.isRead = true WHERE c.id IN :ids AND c.isRead = false")
+    int markRead(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ContactMessage c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,18 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.ContactMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ContactMessageRepositoryCustom {
+
+    /**
+     * Newest-first messages strictly after the (createdAt, id) position, if given. {@code search}
+     * is a case-insensitive prefix of the sender name, sender email or subject. Null filters are
+     * left out of the query entirely so the matching index can be used.
+     */
+    List<ContactMessage> findInbox(Boolean unread, String search,
+                                   LocalDateTime afterCreatedAt, UUID afterId, int limit);
+}
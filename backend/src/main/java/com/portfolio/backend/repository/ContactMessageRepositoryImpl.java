@@ -0,0 +1,59 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.ContactMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ContactMessageRepositoryImpl implements ContactMessageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ContactMessage> findInbox(Boolean unread, String search,
+                                          LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContactMessage> query = cb.createQuery(ContactMessage.class);
+        Root<ContactMessage> m = query.from(ContactMessage.class);
+
+        List<Predicate> where = new ArrayList<>();
+        if (Boolean.TRUE.equals(unread)) {
+            // Matches the partial index on unread messages
+            where.add(cb.isFalse(m.get("isRead")));
+        }
+        if (search != null && !search.isBlank()) {
+            // Each branch matches its own lower(...) text_pattern_ops index
+            String pattern = escapeLike(search.trim().toLowerCase()) + "%";
+            where.add(cb.or(
+                    cb.like(cb.lower(m.get("senderName")), pattern, '\\'),
+                    cb.like(cb.lower(m.get("senderEmail")), pattern, '\\'),
+                    cb.like(cb.lower(m.get("subject")), pattern, '\\')));
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            // Row-value comparison (created_at, id) < (:at, :id), spelled out for JPQL
+            where.add(cb.or(
+                    cb.lessThan(m.get("createdAt"), afterCreatedAt),
+                    cb.and(cb.equal(m.get("createdAt"), afterCreatedAt), cb.lessThan(m.get("id"), afterId))));
+        }
+
+        query.where(where.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(m.get("createdAt")), cb.desc(m.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
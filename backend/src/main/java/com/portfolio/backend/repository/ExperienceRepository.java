@@ -1,10 +1,13 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Experience;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.UUID;
 
 public interface ExperienceRepository extends JpaRepository<Experience, UUID> {
+    // Technologies are fetched eagerly so the cached list never touches a closed session
+    @EntityGraph(attributePaths = "technologies")
     List<Experience> findAllByOrderByStartDateDesc();
 }
@@ -7,12 +7,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MediaFileRepository extends JpaRepository<MediaFile, Long> {
+public interface MediaFileRepository extends JpaRepository<MediaFile, Long>, MediaFileRepositoryCustom {
 
     // Find by file type
     List<MediaFile> findByFileType(MediaType fileType);
@@ -26,6 +28,35 @@ public interface MediaFileRepository extends JpaRepository<MediaFile, Long> {
     // Find by URL
     Optional<MediaFile> findByUrl(String url);
 
+    // Find by content hash (deduplication)
+    Optional<MediaFile> findByContentHash(String contentHash);
+
+    // Batch deduplication lookup
+    List<MediaFile> findByContentHashIn(Collection<String> contentHashes);
+
+    // Take one more reference on an existing asset (dedup hit)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MediaFile m SET m.refCount = m.refCount + 1, m.active = true WHERE m.id = :id")
+    int acquireReference(@Param("id") Long id);
+
+    // Drop one reference; returns 0 when the caller held the last one and the asset may be destroyed
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MediaFile m SET m.refCount = m.refCount - 1 WHERE m.id = :id AND m.refCount > 1")
+    int releaseReference(@Param("id") Long id);
+
+    // Delete the row only if it still holds at most one reference; returns 0 when a concurrent
+    // acquireReference got there first, in which case the asset is in use again and must be kept
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM MediaFile m WHERE m.id = :id AND m.refCount <= 1")
+    int deleteIfLastReference(@Param("id") Long id);
+
+    // Count and total size per (type, active) in one pass, for MediaStatsService
+    @Query("SELECT m.fileType, m.active, COUNT(m), COALESCE(SUM(m.fileSize), 0) FROM MediaFile m GROUP BY m.fileType, m.active")
+    List<Object[]> aggregateByTypeAndActive();
+
     // Find all active files
     List<MediaFile> findByActiveTrue();
 
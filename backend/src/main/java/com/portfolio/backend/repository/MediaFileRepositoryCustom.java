@@ -0,0 +1,17 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.dto.MediaSummary;
+import com.portfolio.backend.entity.MediaType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MediaFileRepositoryCustom {
+
+    /**
+     * Newest-first media summaries strictly after the (uploadedAt, id) position, if given.
+     * Null filters are left out of the query entirely so the matching index can be used.
+     */
+    List<MediaSummary> findSummaries(MediaType type, Boolean active, String fileNamePrefix,
+                                     LocalDateTime afterUploadedAt, Long afterId, int limit);
+}
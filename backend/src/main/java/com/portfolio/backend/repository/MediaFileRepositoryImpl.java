@@ -0,0 +1,62 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.dto.MediaSummary;
+import com.portfolio.backend.entity.MediaFile;
+import com.portfolio.backend.entity.MediaType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MediaFileRepositoryImpl implements MediaFileRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MediaSummary> findSummaries(MediaType type, Boolean active, String fileNamePrefix,
+                                            LocalDateTime afterUploadedAt, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MediaSummary> query = cb.createQuery(MediaSummary.class);
+        Root<MediaFile> m = query.from(MediaFile.class);
+
+        query.select(cb.construct(MediaSummary.class,
+                m.get("id"), m.get("fileType"), m.get("url"), m.get("publicId"),
+                m.get("fileSize"), m.get("fileName"), m.get("uploadedAt"), m.get("active")));
+
+        List<Predicate> where = new ArrayList<>();
+        if (type != null) {
+            where.add(cb.equal(m.get("fileType"), type));
+        }
+        if (active != null) {
+            where.add(cb.equal(m.get("active"), active));
+        }
+        if (fileNamePrefix != null && !fileNamePrefix.isBlank()) {
+            // Matches the lower(file_name) text_pattern_ops index
+            where.add(cb.like(cb.lower(m.get("fileName")), escapeLike(fileNamePrefix.toLowerCase()) + "%", '\\'));
+        }
+        if (afterUploadedAt != null && afterId != null) {
+            // Row-value comparison (uploaded_at, id) < (:at, :id), spelled out for JPQL
+            where.add(cb.or(
+                    cb.lessThan(m.get("uploadedAt"), afterUploadedAt),
+                    cb.and(cb.equal(m.get("uploadedAt"), afterUploadedAt), cb.lessThan(m.get("id"), afterId))));
+        }
+
+        query.where(where.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(m.get("uploadedAt")), cb.desc(m.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
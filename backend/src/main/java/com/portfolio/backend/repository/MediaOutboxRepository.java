@@ -0,0 +1,28 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.MediaOutbox;
+import com.portfolio.backend.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MediaOutboxRepository extends JpaRepository<MediaOutbox, Long> {
+
+    // Due entries, locked with SKIP LOCKED (lock timeout -2) so concurrent dispatchers never claim the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM MediaOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<MediaOutbox> lockDue(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,11 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.ResumeContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ResumeContentRepository extends JpaRepository<ResumeContent, UUID> {
+}
@@ -0,0 +1,107 @@
+package com.portfolio.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket limits for the credential endpoints, checked before any password hashing:
+ * one bucket per client IP (all auth calls) and one per email (login attempts), so neither a
+ * single client nor a distributed attack on one account can keep the hashing pool busy.
+ * Buckets idle for longer than it takes them to refill are dropped.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> emailBuckets;
+
+    @Value("${app.auth.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.auth.rate-limit.ip.per-minute:10}")
+    private int ipPerMinute;
+
+    @Value("${app.auth.rate-limit.email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${app.auth.rate-limit.email.per-minute:2}")
+    private int emailPerMinute;
+
+    public AuthRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${app.auth.rate-limit.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.meterRegistry = meterRegistry;
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+        this.emailBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        acquire("ip", ipBuckets, clientIp, ipCapacity, ipPerMinute);
+        if (email != null) {
+            acquire("email", emailBuckets, email.trim().toLowerCase(Locale.ROOT), emailCapacity, emailPerMinute);
+        }
+    }
+
+    public void checkRegister(String clientIp) {
+        acquire("ip", ipBuckets, clientIp, ipCapacity, ipPerMinute);
+    }
+
+    private void acquire(String scope, Cache<String, TokenBucket> buckets, String key, int capacity, int perMinute) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, perMinute));
+        long waitSeconds = bucket.tryConsume();
+        if (waitSeconds > 0) {
+            Counter.builder("auth.ratelimit.rejections")
+                    .tag("scope", scope)
+                    .register(meterRegistry)
+                    .increment();
+            throw new TooManyRequestsException("Too many attempts, please retry later", waitSeconds);
+        }
+    }
+
+    /**
+     * Classic token bucket: holds up to {@code capacity} tokens, refilled continuously at
+     * {@code perMinute} per minute; each attempt takes one.
+     */
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, int perMinute) {
+            this.capacity = Math.max(1, capacity);
+            this.refillPerNano = Math.max(1, perMinute) / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = this.capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /** 0 when a token was taken, otherwise the whole seconds until one is available. */
+        synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            double missingNanos = (1 - tokens) / refillPerNano;
+            return Math.max(1, (long) Math.ceil(missingNanos / TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+}
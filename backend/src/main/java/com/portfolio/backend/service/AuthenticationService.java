@@ -6,9 +6,7 @@ import com.portfolio.backend.dto.RegisterRequest;
 import com.portfolio.backend.entity.User;
 import com.portfolio.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.io.IOException;
@@ -20,9 +18,9 @@ import org.springframework.http.HttpHeaders;
 @RequiredArgsConstructor
 public class AuthenticationService {
     private final UserRepository repository;
-    private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final TokenVersionService tokenVersionService;
+    private final PasswordHashingService passwordHashingService;
 
     public AuthenticationResponse register(RegisterRequest request) {
         User.Role role = User.Role.ADMIN;
@@ -35,7 +33,7 @@ public class AuthenticationService {
         var user = User.builder()
                 .fullName(request.getFullName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .role(role)
                 .build();
         repository.save(user);
@@ -43,14 +41,14 @@ public class AuthenticationService {
                 .username(user.getEmail())
                 .password(user.getPassword()) // Not used during token gen but required by UserDetails
                 .roles(user.getRole().name())
-                .build());
+                .build(), user.getTokenVersion());
         return AuthenticationResponse.builder()
                 .token(jwtToken)
                 .build();
     }
 
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
-        authenticationManager.authenticate(
+        passwordHashingService.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
@@ -68,8 +66,8 @@ public class AuthenticationService {
                 .roles(user.getRole().name())
                 .build();
 
-        var jwtToken = jwtService.generateToken(userDetails);
-        var refreshToken = jwtService.generateRefreshToken(userDetails);
+        var jwtToken = jwtService.generateToken(userDetails, user.getTokenVersion());
+        var refreshToken = jwtService.generateRefreshToken(userDetails, user.getTokenVersion());
         
         return AuthenticationResponse.builder()
                 .token(jwtToken)
@@ -78,7 +76,8 @@ public class AuthenticationService {
     }
 
     public AuthenticationResponse refreshToken(String refreshToken) {
-        final String userEmail = jwtService.extractUsername(refreshToken);
+        final VerifiedToken verified = jwtService.verify(refreshToken);
+        final String userEmail = verified.getSubject();
         if (userEmail != null) {
             var user = repository.findByEmail(userEmail)
                     .orElseThrow();
@@ -89,8 +88,10 @@ public class AuthenticationService {
                     .roles(user.getRole().name())
                     .build();
 
-            if (jwtService.isTokenValid(refreshToken, userDetails)) {
-                var accessToken = jwtService.generateToken(userDetails);
+            // Refresh tokens issued before a logout-all carry an outdated version
+            if (jwtService.isTokenValid(verified, userDetails)
+                    && Integer.valueOf(user.getTokenVersion()).equals(verified.getTokenVersion())) {
+                var accessToken = jwtService.generateToken(userDetails, user.getTokenVersion());
                 return AuthenticationResponse.builder()
                         .token(accessToken)
                         .refreshToken(refreshToken)
@@ -99,4 +100,11 @@ public class AuthenticationService {
         }
         return null;
     }
+
+    /**
+     * Signs the user out everywhere: every access and refresh token issued so far stops working.
+     */
+    public void logoutAll(String email) {
+        tokenVersionService.revokeAll(email);
+    }
 }
@@ -14,6 +14,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BlogService {
     private final BlogPostRepository repository;
+    private final ContentVersionService contentVersionService;
+    private final SearchIndexService searchIndexService;
 
     public Page<BlogPost> getAllPosts(Pageable pageable) {
         return repository.findAll(pageable);
@@ -41,7 +43,10 @@ public class BlogService {
         if (post.getSlug() == null || post.getSlug().isEmpty()) {
             post.setSlug(post.getTitle().toLowerCase().replace(" ", "-"));
         }
-        return repository.save(post);
+        BlogPost saved = repository.save(post);
+        contentVersionService.markChanged(ContentAggregate.BLOGS);
+        searchIndexService.indexBlog(saved);
+        return saved;
     }
 
     public BlogPost updatePost(UUID id, BlogPost updated) {
@@ -52,12 +57,17 @@ public class BlogService {
             post.setPublished(updated.isPublished());
             post.setTags(updated.getTags());
             post.setCoverImage(updated.getCoverImage());
-            return repository.save(post);
+            BlogPost saved = repository.save(post);
+            contentVersionService.markChanged(ContentAggregate.BLOGS);
+            searchIndexService.indexBlog(saved);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Post not found"));
     }
 
     public void deletePost(UUID id) {
         repository.deleteById(id);
+        contentVersionService.markChanged(ContentAggregate.BLOGS);
+        searchIndexService.removeBlog(id);
     }
     public String updateBlogThumbnail(UUID id, String imageUrl) {
         BlogPost post = repository.findById(id)
@@ -69,7 +79,8 @@ public class BlogService {
         post.setThumbnailUrl(imageUrl);
         post.setCoverImage(imageUrl); // Sync
         repository.save(post);
-        
+        contentVersionService.markChanged(ContentAggregate.BLOGS);
+
         return oldUrl;
     }
 }
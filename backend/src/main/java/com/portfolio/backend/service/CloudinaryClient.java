@@ -0,0 +1,391 @@
+package com.portfolio.backend.service;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.api.exceptions.GeneralError;
+import com.cloudinary.api.exceptions.RateLimited;
+import com.portfolio.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The only way application code talks to Cloudinary. Every call goes through:
+ * <ul>
+ *     <li>a bulkhead capping concurrent remote calls (so a slow Cloudinary cannot absorb every thread),</li>
+ *     <li>a circuit breaker that fails fast after consecutive failures,</li>
+ *     <li>jittered exponential retries, limited by a retry budget so retries never multiply load during an outage,</li>
+ *     <li>error classification: I/O errors, 5xx and rate limiting count as failures, other 4xx answers do not,</li>
+ *     <li>a per-operation latency timer ({@code cloudinary.requests}).</li>
+ * </ul>
+ * Rejections surface as {@link ServiceBusyException} (503 + Retry-After).
+ */
+@Component
+public class CloudinaryClient {
+
+    // Cloudinary's own "rate limited" status
+    private static final int HTTP_RATE_LIMITED = 420;
+    private static final Pattern STATUS_IN_MESSAGE = Pattern.compile("status code - (\\d{3})");
+
+    private final Cloudinary cloudinary;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+
+    @Value("${cloudinary.client.bulkhead-wait-ms:500}")
+    private long bulkheadWaitMs;
+
+    @Value("${cloudinary.client.timeout-seconds:30}")
+    private int timeoutSeconds;
+
+    @Value("${cloudinary.client.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${cloudinary.client.pool-wait-ms:1000}")
+    private int poolWaitMs;
+
+    @Value("${cloudinary.client.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${cloudinary.client.backoff-base-ms:200}")
+    private long backoffBaseMs;
+
+    @Value("${cloudinary.client.backoff-max-ms:2000}")
+    private long backoffMaxMs;
+
+    public CloudinaryClient(Cloudinary cloudinary,
+                            MeterRegistry meterRegistry,
+                            @Value("${cloudinary.client.max-concurrent-calls:8}") int maxConcurrentCalls,
+                            @Value("${cloudinary.client.breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${cloudinary.client.breaker.open-seconds:30}") int openSeconds,
+                            @Value("${cloudinary.client.retry-budget.ratio:0.1}") double retryRatio,
+                            @Value("${cloudinary.client.retry-budget.min-retries:10}") int minRetries) {
+        this.cloudinary = cloudinary;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, TimeUnit.SECONDS.toMillis(openSeconds));
+        this.retryBudget = new RetryBudget(retryRatio, minRetries);
+    }
+
+    /**
+     * Uploads a file. A timed-out upload may still have been stored remotely, so uploads are only
+     * retried when the request provably never reached Cloudinary (connect failures, rate limiting).
+     */
+    public Map upload(File file, Map options) throws IOException {
+        Map params = uploaderParams(options);
+        return execute("upload", false, () -> checked(cloudinary.uploader().upload(file, params)));
+    }
+
+    public Map destroy(String publicId, Map options) throws IOException {
+        Map params = uploaderParams(options);
+        return execute("destroy", true, () -> checked(cloudinary.uploader().destroy(publicId, params)));
+    }
+
+    /**
+     * Bulk delete (Admin API, at most 100 public ids per call). Idempotent, so retried on I/O errors.
+     * The result's {@code deleted} map reports "deleted" or "not_found" per public id.
+     */
+    public Map deleteResources(List<String> publicIds, Map options) throws IOException {
+        Map params = withTimeout(options);
+        return execute("delete_resources", true, () -> {
+            try {
+                return cloudinary.api().deleteResources(publicIds, params);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (RateLimited e) {
+                throw new RemoteError(HTTP_RATE_LIMITED, e.getMessage());
+            } catch (GeneralError e) {
+                throw new RemoteError(statusOf(e.getMessage(), 500), e.getMessage());
+            } catch (Exception e) {
+                // BadRequest, NotFound, NotAllowed, AlreadyExists, AuthorizationRequired
+                throw new RemoteError(400, "Cloudinary bulk delete failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private Map withTimeout(Map options) {
+        Map params = new HashMap(options);
+        // The SDK hands these straight to the HTTP client's RequestConfig, so they are in milliseconds:
+        // socket (read) timeout, TCP connect timeout, and the wait for a pooled connection
+        params.putIfAbsent("timeout", (int) TimeUnit.SECONDS.toMillis(timeoutSeconds));
+        params.putIfAbsent("connect_timeout", connectTimeoutMs);
+        params.putIfAbsent("connection_request_timeout", poolWaitMs);
+        return params;
+    }
+
+    private Map uploaderParams(Map options) {
+        Map params = withTimeout(options);
+        // Have the uploader return errors (with their HTTP status) instead of throwing a bare RuntimeException
+        params.put("return_error", true);
+        return params;
+    }
+
+    /** Turns an uploader error result back into an exception, keeping its HTTP status. */
+    private Map checked(Map result) {
+        Object error = result != null ? result.get("error") : null;
+        if (error instanceof Map) {
+            Map details = (Map) error;
+            Object message = details.get("message");
+            Object status = details.get("http_code");
+            throw new RemoteError(status instanceof Number ? ((Number) status).intValue() : 500,
+                    message != null ? message.toString() : "Cloudinary request failed");
+        }
+        return result;
+    }
+
+    private Map execute(String operation, boolean idempotent, RemoteCall call) throws IOException {
+        // Fail fast while the breaker is open, without queueing for a slot first
+        long retryAfter = circuitBreaker.openForSeconds();
+        if (retryAfter > 0) {
+            rejected(operation, "circuit_open");
+            throw new ServiceBusyException("Cloudinary is unavailable, please retry shortly", retryAfter);
+        }
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a Cloudinary slot", e);
+        }
+        if (!acquired) {
+            rejected(operation, "bulkhead_full");
+            throw new ServiceBusyException("Too many concurrent Cloudinary calls, please retry shortly", 1);
+        }
+
+        boolean outcomeRecorded = false;
+        try {
+            // Only now, holding a slot, may this call claim the half-open probe
+            retryAfter = circuitBreaker.retryAfterSeconds();
+            if (retryAfter > 0) {
+                outcomeRecorded = true;
+                rejected(operation, "circuit_open");
+                throw new ServiceBusyException("Cloudinary is unavailable, please retry shortly", retryAfter);
+            }
+
+            retryBudget.recordRequest();
+            for (int attempt = 1; ; attempt++) {
+                long start = System.nanoTime();
+                try {
+                    Map result = call.invoke();
+                    record(operation, "success", start);
+                    circuitBreaker.recordSuccess();
+                    outcomeRecorded = true;
+                    return result;
+                } catch (IOException e) {
+                    record(operation, "io_error", start);
+                    circuitBreaker.recordFailure();
+                    outcomeRecorded = true;
+                    if ((!idempotent && !isConnectFailure(e)) || !mayRetry(attempt)) {
+                        throw e;
+                    }
+                } catch (RemoteError e) {
+                    if (!e.isServerSide()) {
+                        // Bad request, not found, auth: the service answered, so don't trip the breaker
+                        record(operation, "api_error", start);
+                        circuitBreaker.recordSuccess();
+                        outcomeRecorded = true;
+                        throw e;
+                    }
+                    record(operation, "server_error", start);
+                    circuitBreaker.recordFailure();
+                    outcomeRecorded = true;
+                    // A rate-limited request was refused before doing anything, so it is always safe to repeat
+                    if ((!idempotent && !e.isRateLimited()) || !mayRetry(attempt)) {
+                        throw e;
+                    }
+                } catch (RuntimeException e) {
+                    // Unreadable responses and the like: count against the breaker, but don't retry blindly
+                    record(operation, "error", start);
+                    circuitBreaker.recordFailure();
+                    outcomeRecorded = true;
+                    throw e;
+                }
+                sleepBackoff(attempt);
+            }
+        } finally {
+            if (!outcomeRecorded) {
+                // Unexpected exit (e.g. an Error): never leave the half-open probe claimed
+                circuitBreaker.releaseProbe();
+            }
+            bulkhead.release();
+        }
+    }
+
+    private boolean mayRetry(int attempt) {
+        return attempt < maxAttempts && circuitBreaker.openForSeconds() == 0 && retryBudget.tryAcquireRetry();
+    }
+
+    private static int statusOf(String message, int fallback) {
+        // "Server returned unexpected status code - 502 - ..."
+        if (message != null) {
+            Matcher matcher = STATUS_IN_MESSAGE.matcher(message);
+            if (matcher.find()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        return fallback;
+    }
+
+    private boolean isConnectFailure(IOException e) {
+        return e instanceof ConnectException
+                || e instanceof ConnectTimeoutException
+                || e instanceof UnknownHostException;
+    }
+
+    private void sleepBackoff(int attempt) throws IOException {
+        // Full jitter: uniform in [0, min(max, base * 2^(attempt-1))]
+        long ceiling = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while backing off", e);
+        }
+    }
+
+    private void record(String operation, String outcome, long startNanos) {
+        Timer.builder("cloudinary.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("cloudinary.rejections")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @FunctionalInterface
+    private interface RemoteCall {
+        Map invoke() throws IOException;
+    }
+
+    /** An HTTP error answer from Cloudinary. 5xx and rate limiting count against the breaker; other 4xx do not. */
+    private static final class RemoteError extends RuntimeException {
+
+        private final int status;
+
+        RemoteError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        boolean isRateLimited() {
+            return status == HTTP_RATE_LIMITED || status == 429;
+        }
+
+        boolean isServerSide() {
+            return status >= 500 || isRateLimited();
+        }
+    }
+
+    /**
+     * Closed until {@code failureThreshold} consecutive failures, then open for {@code openMillis}.
+     * After that a single probe call is let through (half-open); its outcome closes or re-opens it.
+     */
+    private static final class CircuitBreaker {
+
+        private final int failureThreshold;
+        private final long openMillis;
+        private int consecutiveFailures;
+        private long openUntil;
+        private boolean probeInFlight;
+
+        CircuitBreaker(int failureThreshold, long openMillis) {
+            this.failureThreshold = failureThreshold;
+            this.openMillis = openMillis;
+        }
+
+        /** 0 when a call may proceed, otherwise the seconds until the next probe is allowed. */
+        synchronized long retryAfterSeconds() {
+            if (consecutiveFailures < failureThreshold) {
+                return 0;
+            }
+            long now = System.currentTimeMillis();
+            if (now < openUntil) {
+                return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(openUntil - now));
+            }
+            if (probeInFlight) {
+                return 1;
+            }
+            probeInFlight = true;
+            return 0;
+        }
+
+        /** Like {@link #retryAfterSeconds()}, but never claims the probe. */
+        synchronized long openForSeconds() {
+            long now = System.currentTimeMillis();
+            if (consecutiveFailures < failureThreshold || now >= openUntil) {
+                return 0;
+            }
+            return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(openUntil - now));
+        }
+
+        synchronized void releaseProbe() {
+            probeInFlight = false;
+        }
+
+        synchronized void recordSuccess() {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+        }
+
+        synchronized void recordFailure() {
+            consecutiveFailures++;
+            if (consecutiveFailures >= failureThreshold) {
+                openUntil = System.currentTimeMillis() + openMillis;
+                probeInFlight = false;
+            }
+        }
+    }
+
+    /**
+     * Token bucket that earns {@code ratio} of a retry per request, so retries stay a bounded
+     * fraction of traffic. {@code minRetries} seeds (and caps) the bucket for low-traffic periods.
+     */
+    private static final class RetryBudget {
+
+        private final double ratio;
+        private final double capacity;
+        private double tokens;
+
+        RetryBudget(double ratio, int minRetries) {
+            this.ratio = ratio;
+            this.capacity = Math.max(1, minRetries);
+            this.tokens = capacity;
+        }
+
+        synchronized void recordRequest() {
+            tokens = Math.min(capacity, tokens + ratio);
+        }
+
+        synchronized boolean tryAcquireRetry() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.portfolio.backend.service;
 
-import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import com.portfolio.backend.entity.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,13 +12,15 @@ import java.util.Map;
 public class CloudinaryService {
 
     @Autowired
-    private Cloudinary cloudinary;
+    private CloudinaryClient cloudinaryClient;
+
+    @Autowired
+    private UploadIngestionService uploadIngestionService;
 
     public Map uploadFile(MultipartFile file, String folderName, String resourceType) {
-        try {
-            if (file.isEmpty()) {
-                throw new RuntimeException("Empty file");
-            }
+        try (SpooledUpload upload = "image".equals(resourceType)
+                ? uploadIngestionService.ingest(file, MediaType.IMAGE)
+                : uploadIngestionService.ingest(file)) {
 
             Map params = ObjectUtils.asMap(
                     "folder", folderName,
@@ -27,7 +29,7 @@ public class CloudinaryService {
                     "unique_filename", true
             );
 
-            return cloudinary.uploader().upload(file.getBytes(), params);
+            return cloudinaryClient.upload(upload.getFile(), params);
 
         } catch (IOException e) {
             throw new RuntimeException("Upload failed: " + e.getMessage());
@@ -37,7 +39,7 @@ public class CloudinaryService {
     public void deleteFile(String publicId, String resourceType) {
         try {
             Map params = ObjectUtils.asMap("resource_type", resourceType);
-            cloudinary.uploader().destroy(publicId, params);
+            cloudinaryClient.destroy(publicId, params);
         } catch (IOException e) {
             System.err.println("Failed to delete file: " + publicId);
             throw new RuntimeException("Delete failed: " + e.getMessage());
@@ -0,0 +1,169 @@
+package com.portfolio.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Streams contact messages as CSV or NDJSON. Rows come from a server-side cursor inside a
+ * read-only transaction and are detached once written, so memory stays flat however many rows
+ * there are; output is flushed after the first row and then every {@value #FLUSH_EVERY} rows.
+ */
+@Service
+public class ContactExportService {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String CSV_HEADER = "id,created_at,sender_name,sender_email,subject,message,ip_address,is_read,duplicate_count";
+
+    private final ContactMessageRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ContactExportService(ContactMessageRepository repository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value + " (use csv or ndjson)");
+            }
+        }
+    }
+
+    public void export(Format format, LocalDateTime since, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            writer.flush();
+        }
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ContactMessage> rows = repository.streamSince(since != null ? since : BEGINNING)) {
+                    Iterator<ContactMessage> iterator = rows.iterator();
+                    long written = 0;
+                    while (iterator.hasNext()) {
+                        ContactMessage message = iterator.next();
+                        if (format == Format.CSV) {
+                            writeCsv(writer, message);
+                        } else {
+                            writeJson(writer, message);
+                        }
+                        entityManager.detach(message);
+                        written++;
+                        if (written == 1 || written % FLUSH_EVERY == 0) {
+                            writer.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    // Usually the client went away; surfacing it ends the transaction and closes the cursor
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Writer writer, ContactMessage message) throws IOException {
+        writer.write(String.valueOf(message.getId()));
+        writer.write(',');
+        writer.write(message.getCreatedAt() != null ? message.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(csv(message.getSenderName()));
+        writer.write(',');
+        writer.write(csv(message.getSenderEmail()));
+        writer.write(',');
+        writer.write(csv(message.getSubject()));
+        writer.write(',');
+        writer.write(csv(message.getMessage()));
+        writer.write(',');
+        writer.write(csv(message.getIpAddress()));
+        writer.write(',');
+        writer.write(String.valueOf(message.isRead()));
+        writer.write(',');
+        writer.write(String.valueOf(message.getDuplicateCount()));
+        writer.write('\n');
+    }
+
+    private void writeJson(Writer writer, ContactMessage message) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", message.getId());
+        row.put("createdAt", message.getCreatedAt());
+        row.put("senderName", message.getSenderName());
+        row.put("senderEmail", message.getSenderEmail());
+        row.put("subject", message.getSubject());
+        row.put("message", message.getMessage());
+        row.put("ipAddress", message.getIpAddress());
+        row.put("read", message.isRead());
+        row.put("duplicateCount", message.getDuplicateCount());
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180 quoting. Values starting with a formula character are prefixed with an apostrophe
+     * so spreadsheets and CRMs importing the file never evaluate visitor-supplied text.
+     */
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
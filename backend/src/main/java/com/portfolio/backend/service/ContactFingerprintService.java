@@ -0,0 +1,236 @@
+package com.portfolio.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.entity.ContactMessage;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suppresses floods of identical or lightly edited contact messages. Each message gets a 64-bit
+ * SimHash of its subject and body; a message within {@value #MAX_DISTANCE} bits of one received
+ * from the same email or IP during the last {@code app.contact.dedup.window} is a near-duplicate.
+ * <p>
+ * Lookups are O(1): the fingerprint is split into {@value #BANDS} 16-bit bands and each band is
+ * indexed per sender, so by the pigeonhole principle any fingerprint within the distance shares
+ * at least one band with its match. Duplicates are not stored; instead the original row's
+ * {@code duplicate_count} is incremented write-behind, like the download counter.
+ */
+@Service
+public class ContactFingerprintService {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final int MAX_DISTANCE = BANDS - 1;
+
+    private static final String FLUSH_SQL =
+            "UPDATE contact_messages SET duplicate_count = duplicate_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration window;
+    // "<scope>:<sender>:<band>:<bits>" -> the first message seen with that band
+    private final Cache<String, Fingerprint> index;
+    private final Map<UUID, Counter> duplicates = new ConcurrentHashMap<>();
+    // Makes check-then-index atomic without waiting on a flush's database round trip
+    private final Object indexLock = new Object();
+
+    public ContactFingerprintService(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.contact.dedup.window:PT1H}") Duration window,
+                                     @Value("${app.contact.dedup.max-entries:100000}") long maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.window = window;
+        this.index = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Returns the id of an earlier message this one nearly duplicates (and counts it), or null
+     * after indexing {@code message}, which must already have its id assigned.
+     */
+    public UUID findDuplicate(ContactMessage message) {
+        long fingerprint = fingerprint(message);
+        List<String> keys = keys(message, fingerprint);
+
+        synchronized (indexLock) {
+            for (String key : keys) {
+                Fingerprint candidate = index.getIfPresent(key);
+                if (candidate != null && Long.bitCount(candidate.hash ^ fingerprint) <= MAX_DISTANCE) {
+                    duplicates.computeIfAbsent(candidate.messageId, id -> new Counter()).total.increment();
+                    return candidate.messageId;
+                }
+            }
+
+            Fingerprint entry = new Fingerprint(message.getId(), fingerprint);
+            for (String key : keys) {
+                // Keep the oldest message for a band so floods keep collapsing onto the same row
+                index.asMap().putIfAbsent(key, entry);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Undoes {@link #findDuplicate} indexing {@code message}, for a message that could not be stored
+     * after all, so a retry is accepted instead of being counted against a row that never existed.
+     */
+    public void forget(ContactMessage message) {
+        List<String> keys = keys(message, fingerprint(message));
+        synchronized (indexLock) {
+            for (String key : keys) {
+                index.asMap().computeIfPresent(key, (k, entry) -> entry.messageId.equals(message.getId()) ? null : entry);
+            }
+            duplicates.remove(message.getId());
+        }
+    }
+
+    private long fingerprint(ContactMessage message) {
+        return simHash(Objects.toString(message.getSubject(), "") + "\n" + message.getMessage());
+    }
+
+    private List<String> keys(ContactMessage message, long fingerprint) {
+        List<String> keys = new ArrayList<>(BANDS * 2);
+        String email = message.getSenderEmail() == null ? null : message.getSenderEmail().trim().toLowerCase(Locale.ROOT);
+        for (int band = 0; band < BANDS; band++) {
+            long bits = (fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+            if (email != null) {
+                keys.add("e:" + email + ":" + band + ":" + bits);
+            }
+            if (message.getIpAddress() != null) {
+                keys.add("i:" + message.getIpAddress() + ":" + band + ":" + bits);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Charikar SimHash over word unigrams and bigrams: similar texts differ in few bits.
+     */
+    static long simHash(String text) {
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        int[] weights = new int[64];
+        String previous = null;
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            addFeature(weights, word);
+            if (previous != null) {
+                addFeature(weights, previous + " " + word);
+            }
+            previous = word;
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    private static void addFeature(int[] weights, String feature) {
+        long hash = hash64(feature);
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a followed by the MurmurHash3 finaliser for well-spread bits
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Adds suppressed duplicates to their original rows. The original may still be waiting in the
+     * contact spool, in which case the update matches nothing and the delta is retried.
+     */
+    @Scheduled(fixedDelayString = "${app.contact.dedup.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<UUID> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+
+        duplicates.forEach((id, counter) -> {
+            long delta = counter.pending();
+            if (delta > 0) {
+                ids.add(id);
+                deltas.add(delta);
+                batch.add(new Object[]{delta, id});
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            int[] updated;
+            try {
+                updated = jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            } catch (DataAccessException e) {
+                System.err.println("Failed to flush contact duplicate counters: " + e.getMessage());
+                return;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                // Null when forget() dropped it meanwhile
+                Counter counter = duplicates.get(ids.get(i));
+                if (updated[i] != 0 && counter != null) {
+                    counter.flushed += deltas.get(i);
+                }
+            }
+        }
+
+        // No new duplicates can point at a message whose fingerprints have expired
+        long cutoff = System.currentTimeMillis() - 2 * window.toMillis();
+        duplicates.entrySet().removeIf(entry -> entry.getValue().createdAt < cutoff);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class Fingerprint {
+        private final UUID messageId;
+        private final long hash;
+
+        private Fingerprint(UUID messageId, long hash) {
+            this.messageId = messageId;
+            this.hash = hash;
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        private final long createdAt = System.currentTimeMillis();
+        // Guarded by the ContactFingerprintService monitor
+        private long flushed;
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
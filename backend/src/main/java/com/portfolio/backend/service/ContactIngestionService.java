@@ -0,0 +1,462 @@
+package com.portfolio.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.entity.ContactMessage;
+import com.portfolio.backend.exception.ServiceBusyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind ingestion for contact messages. A submission is appended to a local spool file
+ * (one JSON line, fsync'd) and to a bounded in-memory queue, then acknowledged; a single writer
+ * thread drains the queue into {@code contact_messages} with JDBC batch inserts, retrying with
+ * backoff while the database is unavailable. Messages get their id on submission and are
+ * inserted with ON CONFLICT DO NOTHING, so replaying the spool after a restart is idempotent.
+ * The spool is a sequence of segment files ({@code <spool-file>.<n>}); a full segment is sealed
+ * and a new one started, and a sealed segment is deleted once all of its messages have reached
+ * the database, so the spool only holds what is still in flight.
+ * Rows the database rejects outright (constraint or data errors) are split out of their batch
+ * and moved to a quarantine file, so one bad row cannot stall the writer.
+ */
+@Service
+public class ContactIngestionService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO contact_messages (id, sender_name, sender_email, subject, message, ip_address, created_at, is_read) "
+                    + "VALUES (:id, :senderName, :senderEmail, :subject, :message, :ipAddress, :createdAt, FALSE) "
+                    // No conflict target: the key is (id) on a plain table and (id, created_at) once partitioned
+                    + "ON CONFLICT DO NOTHING";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<ContactMessage> queue;
+    private final Object spoolLock = new Object();
+
+    // Oldest first; the last one is being appended to. Queue order matches spool order, so
+    // inserted messages are always accounted against the oldest segments. Guarded by spoolLock.
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private FileChannel spool;
+    private Path currentPath;
+    private long nextSegment;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    @Value("${app.contact.spool-file:spool/contact-messages.jsonl}")
+    private String spoolFile;
+
+    @Value("${app.contact.spool-segment-bytes:1048576}")
+    private long segmentBytes;
+
+    @Value("${app.contact.quarantine-file:spool/contact-messages.rejected.jsonl}")
+    private String quarantineFile;
+
+    @Value("${app.contact.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.contact.retry-max-ms:30000}")
+    private long retryMaxMs;
+
+    @Value("${app.contact.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    public ContactIngestionService(NamedParameterJdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.contact.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Path base = Paths.get(spoolFile).toAbsolutePath();
+        Files.createDirectories(base.getParent());
+        List<Path> existing = existingSegments(base);
+
+        writer = new CustomizableThreadFactory("contact-writer-").newThread(this::drain);
+        writer.start();
+
+        for (Path path : existing) {
+            if (!replay(path)) {
+                break;
+            }
+        }
+        synchronized (spoolLock) {
+            openSegment(base);
+        }
+    }
+
+    /**
+     * Queues the messages in one segment left over from the previous run, reading it line by line.
+     * Returns false if interrupted; whatever was not queued stays on disk for the next start.
+     */
+    private boolean replay(Path path) throws IOException {
+        Segment segment = new Segment(path);
+        synchronized (spoolLock) {
+            segments.addLast(segment);
+        }
+        long replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ContactMessage message;
+                try {
+                    message = objectMapper.readValue(line, ContactMessage.class);
+                } catch (IOException e) {
+                    // A torn final line from a crash mid-write was never acknowledged
+                    System.err.println("Skipping unreadable spooled contact message: " + e.getMessage());
+                    continue;
+                }
+                synchronized (spoolLock) {
+                    segment.pending++;
+                }
+                try {
+                    queue.put(message);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    synchronized (spoolLock) {
+                        // The rest is still on disk: keep the file for the next start
+                        segment.pending--;
+                        segment.partial = true;
+                        seal(segment);
+                    }
+                    return false;
+                }
+                replayed++;
+            }
+        }
+        if (replayed > 0) {
+            System.err.println("Replayed " + replayed + " spooled contact messages from " + path.getFileName());
+        }
+        synchronized (spoolLock) {
+            seal(segment);
+        }
+        return true;
+    }
+
+    /**
+     * Durably accepts the message and returns it with its id and timestamp assigned; the database
+     * insert happens shortly after on the writer thread.
+     *
+     * @throws ServiceBusyException if the in-memory queue is full (the database has been down for a while)
+     */
+    public ContactMessage submit(ContactMessage message) {
+        if (message.getId() == null) {
+            message.setId(UUID.randomUUID());
+        }
+        message.setCreatedAt(LocalDateTime.now());
+        byte[] line = toLine(message);
+        FileChannel channel;
+
+        synchronized (spoolLock) {
+            if (queue.remainingCapacity() == 0) {
+                throw new ServiceBusyException("Too many messages waiting to be stored, please retry shortly", retryAfterSeconds);
+            }
+            channel = spool;
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                segments.getLast().pending++;
+                queue.add(message);
+                if (channel.position() >= segmentBytes) {
+                    rotate();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to spool contact message", e);
+            }
+        }
+
+        // Outside the lock so concurrent submissions share the disk flush
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // Rotated in the meantime, and rotation syncs the segment before closing it
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync contact message spool", e);
+        }
+        return message;
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            ContactMessage first;
+            try {
+                first = queue.poll(500, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+                break;
+            }
+            if (first == null) {
+                continue;
+            }
+            List<ContactMessage> batch = new ArrayList<>(batchSize);
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            if (!insertWithRetry(batch)) {
+                // Shutting down with the database unreachable: the spool keeps them for the next start
+                return;
+            }
+            synchronized (spoolLock) {
+                release(batch.size());
+            }
+        }
+    }
+
+    private boolean insertWithRetry(List<ContactMessage> batch) {
+        long delayMs = 500;
+        while (true) {
+            try {
+                insertOrQuarantine(batch);
+                return true;
+            } catch (RuntimeException e) {
+                System.err.println("Contact message insert failed, retrying in " + delayMs + "ms: " + e.getMessage());
+            }
+            if (!running) {
+                return false;
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+            delayMs = Math.min(retryMaxMs, delayMs * 2);
+        }
+    }
+
+    /**
+     * Inserts the batch. If the database rejects it, the batch is halved until the offending rows
+     * are isolated and quarantined; the rest are inserted. Outage-type errors propagate so the
+     * caller retries the whole batch (rows that already made it are skipped by ON CONFLICT).
+     */
+    private void insertOrQuarantine(List<ContactMessage> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(this::params).toArray(SqlParameterSource[]::new));
+        } catch (RuntimeException e) {
+            if (!isRejection(e)) {
+                throw e;
+            }
+            if (batch.size() == 1) {
+                quarantine(batch.get(0), (NonTransientDataAccessException) e);
+                return;
+            }
+            int middle = batch.size() / 2;
+            insertOrQuarantine(batch.subList(0, middle));
+            insertOrQuarantine(batch.subList(middle, batch.size()));
+        }
+    }
+
+    private boolean isRejection(RuntimeException e) {
+        // Connection failures and schema problems are non-transient too, but they affect every row
+        // alike: retry those rather than quarantining the whole queue
+        return e instanceof DataIntegrityViolationException
+                || (e instanceof NonTransientDataAccessException
+                && !(e instanceof NonTransientDataAccessResourceException)
+                && !(e instanceof InvalidDataAccessResourceUsageException));
+    }
+
+    private void quarantine(ContactMessage message, NonTransientDataAccessException cause) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("rejectedAt", LocalDateTime.now());
+        entry.put("error", cause.getMostSpecificCause().getMessage());
+        entry.put("message", message);
+        String line;
+        try {
+            line = objectMapper.writeValueAsString(entry) + "\n";
+        } catch (IOException e) {
+            line = message + "\n";
+        }
+        System.err.println("Quarantining contact message " + message.getId() + ": " + entry.get("error"));
+        try {
+            Files.writeString(Paths.get(quarantineFile), line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            // Keep draining regardless; the log line above is then the only record of it
+            System.err.println("Failed to write contact quarantine file, message was: " + line.trim());
+        }
+    }
+
+    private SqlParameterSource params(ContactMessage message) {
+        return new MapSqlParameterSource()
+                .addValue("id", message.getId())
+                .addValue("senderName", message.getSenderName())
+                .addValue("senderEmail", message.getSenderEmail())
+                .addValue("subject", message.getSubject())
+                .addValue("message", message.getMessage())
+                .addValue("ipAddress", message.getIpAddress())
+                .addValue("createdAt", message.getCreatedAt());
+    }
+
+    private byte[] toLine(ContactMessage message) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(message);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialise contact message", e);
+        }
+    }
+
+    /**
+     * Accounts for {@code count} inserted (or quarantined) messages against the oldest segments,
+     * deleting sealed segments that are now fully stored. Caller holds spoolLock.
+     */
+    private void release(int count) {
+        while (count > 0 && !segments.isEmpty()) {
+            Segment oldest = segments.getFirst();
+            long taken = Math.min(count, oldest.pending);
+            oldest.pending -= taken;
+            count -= (int) taken;
+            if (oldest.pending > 0 || !oldest.sealed) {
+                break;
+            }
+            segments.removeFirst();
+            delete(oldest);
+        }
+        Segment current = segments.peekLast();
+        if (current != null && current.pending == 0 && current.path.equals(currentPath)) {
+            // Nothing in flight at all: reuse the open segment from the start
+            truncateSpool();
+        }
+    }
+
+    // Caller holds spoolLock
+    private void rotate() throws IOException {
+        spool.force(false);
+        spool.close();
+        seal(segments.getLast());
+        openSegment(Paths.get(spoolFile).toAbsolutePath());
+    }
+
+    // Caller holds spoolLock
+    private void seal(Segment segment) {
+        segment.sealed = true;
+        if (segment.pending == 0 && segments.remove(segment)) {
+            delete(segment);
+        }
+    }
+
+    // Caller holds spoolLock
+    private void openSegment(Path base) throws IOException {
+        currentPath = base.resolveSibling(base.getFileName() + "." + nextSegment++);
+        spool = FileChannel.open(currentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        segments.addLast(new Segment(currentPath));
+    }
+
+    /**
+     * Segments from the previous run, oldest first. A bare {@code <spool-file>} from before the
+     * spool was segmented is replayed first.
+     */
+    private List<Path> existingSegments(Path base) throws IOException {
+        List<Path> found = new ArrayList<>();
+        if (Files.exists(base)) {
+            found.add(base);
+        }
+        String prefix = base.getFileName() + ".";
+        List<long[]> numbered = new ArrayList<>();
+        try (Stream<Path> siblings = Files.list(base.getParent())) {
+            siblings.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.substring(prefix.length()).matches("\\d{1,18}"))
+                    .forEach(name -> numbered.add(new long[] {Long.parseLong(name.substring(prefix.length()))}));
+        }
+        numbered.sort((a, b) -> Long.compare(a[0], b[0]));
+        for (long[] number : numbered) {
+            found.add(base.resolveSibling(prefix + number[0]));
+            nextSegment = number[0] + 1;
+        }
+        return found;
+    }
+
+    private void delete(Segment segment) {
+        if (segment.partial) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            // Harmless: replaying already-inserted messages is a no-op
+            System.err.println("Failed to delete contact message spool segment " + segment.path + ": " + e.getMessage());
+        }
+    }
+
+    // Caller holds spoolLock
+    private void truncateSpool() {
+        try {
+            spool.truncate(0);
+            spool.position(0);
+            spool.force(false);
+        } catch (IOException e) {
+            // Harmless: replaying already-inserted messages is a no-op
+            System.err.println("Failed to truncate contact message spool: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        synchronized (spoolLock) {
+            spool.close();
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        // Messages written to this segment and not yet inserted
+        private long pending;
+        // No more messages will be added; deleted once pending reaches 0
+        private boolean sealed;
+        // Replay stopped part-way through, so the file also holds messages that were never queued
+        private boolean partial;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.portfolio.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code contact_messages} (see V22) ahead of time and applies
+ * the retention policy: partitions whose whole month is older than
+ * {@code app.contact.retention.months} are detached and, unless {@code detach-only} is set,
+ * dropped. Purging a month of spam is therefore a catalog operation rather than a DELETE.
+ * <p>
+ * With Flyway disabled, {@code ddl-auto} creates a plain table; it is converted on startup the
+ * way V22 would have done it. A DEFAULT partition catches rows no monthly partition covers, so
+ * a missed maintenance run never makes inserts fail; its rows move into the month's partition
+ * when that is created.
+ */
+@Service
+public class ContactPartitionMaintenanceService {
+
+    private static final String PARENT = "contact_messages";
+    private static final String DEFAULT_PARTITION = PARENT + "_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARENT + "_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT COUNT(*) FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                    + "WHERE c.relname = ? AND n.nspname = current_schema() AND c.relkind = 'p'";
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT child.relname FROM pg_inherits i "
+                    + "JOIN pg_class parent ON parent.oid = i.inhparent "
+                    + "JOIN pg_class child ON child.oid = i.inhrelid "
+                    + "JOIN pg_namespace n ON n.oid = parent.relnamespace "
+                    + "WHERE parent.relname = ? AND n.nspname = current_schema()";
+
+    // Serialises conversion and partition changes across instances; held until the DO block commits
+    private static final String LOCK = "PERFORM pg_advisory_xact_lock(hashtext('contact_messages_partitions'));";
+
+    private static final String CONVERT_SQL = """
+            DO $$
+            DECLARE
+                month_start DATE;
+                last_month DATE;
+            BEGIN
+                %s
+                IF to_regclass('contact_messages') IS NULL OR EXISTS (
+                        SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                        WHERE c.relname = 'contact_messages' AND n.nspname = current_schema() AND c.relkind = 'p') THEN
+                    RETURN;
+                END IF;
+
+                LOCK TABLE contact_messages IN ACCESS EXCLUSIVE MODE;
+                UPDATE contact_messages SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+                ALTER TABLE contact_messages RENAME TO contact_messages_legacy;
+
+                -- Same columns and defaults as the table Hibernate created; the key must include the partition key
+                CREATE TABLE contact_messages (LIKE contact_messages_legacy INCLUDING DEFAULTS)
+                    PARTITION BY RANGE (created_at);
+                ALTER TABLE contact_messages ADD PRIMARY KEY (id, created_at);
+
+                month_start := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM contact_messages_legacy), CURRENT_TIMESTAMP))::date;
+                last_month := date_trunc('month', CURRENT_TIMESTAMP)::date;
+                WHILE month_start <= last_month LOOP
+                    EXECUTE format(
+                        'CREATE TABLE %%I PARTITION OF contact_messages FOR VALUES FROM (%%L) TO (%%L)',
+                        'contact_messages_p' || to_char(month_start, 'YYYYMM'),
+                        month_start,
+                        (month_start + INTERVAL '1 month')::date);
+                    month_start := (month_start + INTERVAL '1 month')::date;
+                END LOOP;
+                CREATE TABLE contact_messages_default PARTITION OF contact_messages DEFAULT;
+
+                INSERT INTO contact_messages SELECT * FROM contact_messages_legacy;
+                DROP TABLE contact_messages_legacy;
+
+                -- After the drop, so the names are not still taken by the legacy table's indexes
+                CREATE INDEX IF NOT EXISTS ix_contact_messages_created ON contact_messages (created_at DESC, id DESC);
+                CREATE INDEX IF NOT EXISTS ix_contact_messages_unread_created ON contact_messages (created_at DESC, id DESC) WHERE is_read = FALSE;
+                CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_name_prefix ON contact_messages (lower(sender_name) text_pattern_ops);
+                CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_email_prefix ON contact_messages (lower(sender_email) text_pattern_ops);
+                CREATE INDEX IF NOT EXISTS ix_contact_messages_subject_prefix ON contact_messages (lower(subject) text_pattern_ops);
+                RAISE NOTICE 'Partitioned contact_messages by month';
+            END $$
+            """.formatted(LOCK);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.contact.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 keeps every partition forever
+    @Value("${app.contact.retention.months:24}")
+    private int retentionMonths;
+
+    @Value("${app.contact.retention.detach-only:false}")
+    private boolean detachOnly;
+
+    public ContactPartitionMaintenanceService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            jdbcTemplate.execute(CONVERT_SQL);
+        } catch (DataAccessException e) {
+            // The conversion is one transaction, so the table is left as it was; the next start tries again
+            System.err.println("Partitioning contact_messages failed: " + e.getMessage());
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.contact.partitions.cron:0 30 3 * * *}")
+    public synchronized void maintain() {
+        try {
+            Long partitioned = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Long.class, PARENT);
+            if (partitioned == null || partitioned == 0) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + PARENT + " DEFAULT");
+            createUpcoming();
+            if (retentionMonths > 0) {
+                purgeExpired();
+            }
+        } catch (DataAccessException e) {
+            System.err.println("Contact partition maintenance failed: " + e.getMessage());
+        }
+    }
+
+    private void createUpcoming() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDate from = month.atDay(1);
+            LocalDate to = month.plusMonths(1).atDay(1);
+            createPartition(partitionName(month), from, to);
+        }
+    }
+
+    /**
+     * Creates the partition for [from, to). PostgreSQL refuses that while the DEFAULT partition
+     * holds rows in the range, so those are moved over with the default detached, in one transaction.
+     */
+    private void createPartition(String name, LocalDate from, LocalDate to) {
+        // Identifiers and bounds are derived from dates only, never from input
+        String range = "created_at >= '" + from + "' AND created_at < '" + to + "'";
+        String create = "CREATE TABLE " + name + " PARTITION OF " + PARENT
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "');";
+        jdbcTemplate.execute("DO $$ BEGIN "
+                + LOCK
+                + " IF to_regclass('" + name + "') IS NOT NULL THEN RETURN; END IF;"
+                + " IF EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE " + range + ") THEN"
+                + " ALTER TABLE " + PARENT + " DETACH PARTITION " + DEFAULT_PARTITION + "; "
+                + create
+                + " INSERT INTO " + PARENT + " SELECT * FROM " + DEFAULT_PARTITION + " WHERE " + range + ";"
+                + " DELETE FROM " + DEFAULT_PARTITION + " WHERE " + range + ";"
+                + " ALTER TABLE " + PARENT + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT;"
+                + " ELSE " + create + " END IF;"
+                + " END $$");
+    }
+
+    private void purgeExpired() {
+        // Oldest month that must be kept whole
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+        int purged = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?",
+                oldestKept.atDay(1).atStartOfDay());
+        if (purged > 0) {
+            System.err.println("Purged " + purged + " expired contact messages from " + DEFAULT_PARTITION);
+        }
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, PARENT);
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), SUFFIX);
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + partition);
+            if (detachOnly) {
+                System.err.println("Detached expired contact partition " + partition);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                System.err.println("Dropped expired contact partition " + partition);
+            }
+        }
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARENT + "_p" + month.format(SUFFIX);
+    }
+}
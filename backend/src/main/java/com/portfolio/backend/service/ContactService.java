@@ -1,25 +1,93 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.common.KeysetCursor;
+import com.portfolio.backend.dto.CursorPage;
 import com.portfolio.backend.entity.ContactMessage;
 import com.portfolio.backend.repository.ContactMessageRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @org.springframework.transaction.annotation.Transactional
 public class ContactService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ContactMessageRepository repository;
+    private final ContactIngestionService ingestionService;
+    private final ContactFingerprintService fingerprintService;
 
+    // Spooled and inserted in batches by the ingestion writer, so no transaction is needed here
+    @org.springframework.transaction.annotation.Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
     public ContactMessage saveMessage(ContactMessage message) {
-        return repository.save(message);
+        message.setId(java.util.UUID.randomUUID());
+        java.util.UUID original = fingerprintService.findDuplicate(message);
+        if (original != null) {
+            // Acknowledged like any other submission, but only counted on the original row
+            message.setId(original);
+            message.setCreatedAt(java.time.LocalDateTime.now());
+            return message;
+        }
+        try {
+            return ingestionService.submit(message);
+        } catch (RuntimeException e) {
+            // Not stored (queue full, spool I/O error): the visitor's retry must not be taken for a duplicate
+            fingerprintService.forget(message);
+            throw e;
+        }
+    }
+
+    /**
+     * One newest-first page of the inbox, optionally only unread messages and/or those whose
+     * sender or subject starts with {@code search}.
+     */
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public CursorPage<ContactMessage> listMessages(Boolean unread, String search, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        LocalDateTime afterCreatedAt = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            afterCreatedAt = position.timestamp();
+            try {
+                afterId = UUID.fromString(position.id());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        // One extra row tells us whether another page exists
+        List<ContactMessage> rows = repository.findInbox(unread, search, afterCreatedAt, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ContactMessage> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ContactMessage last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId().toString()).encode();
+        }
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public long getUnreadCount() {
+        return repository.countByIsReadFalse();
+    }
+
+    /** Marks the given messages read with a single UPDATE; returns how many changed. */
+    public int markMessagesAsRead(List<UUID> ids) {
+        return repository.markRead(ids);
     }
 
-    public List<ContactMessage> getAllMessages() {
-        return repository.findAll();
+    /** Deletes the given messages with a single DELETE; returns how many were removed. */
+    public int deleteMessages(List<UUID> ids) {
+        return repository.deleteByIds(ids);
     }
     
     public void deleteMessage(java.util.UUID id) {
@@ -0,0 +1,37 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.config.CacheConfig;
+
+/**
+ * Public content groups that are versioned together for conditional GETs,
+ * with the caches that hold their read models.
+ */
+public enum ContentAggregate {
+    PROFILE(CacheConfig.PROFILE),
+    SKILLS(CacheConfig.SKILLS),
+    PROJECTS(CacheConfig.PROJECTS, CacheConfig.PROJECT),
+    EXPERIENCE(CacheConfig.EXPERIENCE),
+    EDUCATION(CacheConfig.EDUCATION),
+    BLOGS;
+
+    private final String[] caches;
+
+    ContentAggregate(String... caches) {
+        this.caches = caches;
+    }
+
+    public String[] getCaches() {
+        return caches;
+    }
+
+    public static ContentAggregate forCache(String cacheName) {
+        for (ContentAggregate aggregate : values()) {
+            for (String cache : aggregate.caches) {
+                if (cache.equals(cacheName)) {
+                    return aggregate;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cache " + cacheName + " belongs to no content aggregate");
+    }
+}
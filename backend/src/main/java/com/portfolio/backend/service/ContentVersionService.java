@@ -0,0 +1,113 @@
+package com.portfolio.backend.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Version and last-modified marker per public content aggregate, bumped after every committed
+ * write. Public GET endpoints compare {@link #etag} against If-None-Match before touching the
+ * database, so an unchanged resource costs a header comparison.
+ * The boot timestamp is part of the ETag, so a restart never reuses a tag for different data.
+ */
+@Service
+public class ContentVersionService {
+
+    private final CacheManager cacheManager;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<ContentAggregate, Version> versions = new EnumMap<>(ContentAggregate.class);
+    private final List<Consumer<ContentAggregate>> listeners = new CopyOnWriteArrayList<>();
+
+    public ContentVersionService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        long now = System.currentTimeMillis();
+        for (ContentAggregate aggregate : ContentAggregate.values()) {
+            versions.put(aggregate, new Version(0, now));
+        }
+    }
+
+    public String etag(ContentAggregate aggregate) {
+        return "\"" + aggregate.name().toLowerCase() + "-" + epoch + "-" + version(aggregate).number + "\"";
+    }
+
+    public long lastModified(ContentAggregate aggregate) {
+        return version(aggregate).lastModified;
+    }
+
+    /**
+     * Version of the aggregate a cache belongs to; cached entries loaded under an older one are stale.
+     */
+    public long versionOfCache(String cacheName) {
+        return version(ContentAggregate.forCache(cacheName)).number;
+    }
+
+    /**
+     * Registers a callback run after every version bump (on the committing thread, so it must be cheap).
+     */
+    public void addChangeListener(Consumer<ContentAggregate> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Records a change to the aggregate: evicts its caches, then bumps its version. Inside a
+     * transaction both happen after commit, so a client can never get old data under the new tag.
+     */
+    public void markChanged(ContentAggregate aggregate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndBump(aggregate);
+                }
+            });
+        } else {
+            evictAndBump(aggregate);
+        }
+    }
+
+    private void evictAndBump(ContentAggregate aggregate) {
+        for (String name : aggregate.getCaches()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
+        bump(aggregate);
+        for (Consumer<ContentAggregate> listener : listeners) {
+            try {
+                listener.accept(aggregate);
+            } catch (RuntimeException e) {
+                System.err.println("Content change listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private synchronized Version version(ContentAggregate aggregate) {
+        return versions.get(aggregate);
+    }
+
+    private synchronized void bump(ContentAggregate aggregate) {
+        Version current = versions.get(aggregate);
+        // Last-Modified has second precision; keep it strictly increasing across quick successive writes
+        long lastModified = Math.max(System.currentTimeMillis(), current.lastModified + 1000);
+        versions.put(aggregate, new Version(current.number + 1, lastModified));
+    }
+
+    private static final class Version {
+        private final long number;
+        private final long lastModified;
+
+        private Version(long number, long lastModified) {
+            this.number = number;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dashboard counters in one round trip: each figure is a scalar subquery, so nothing is
+ * loaded into the JVM and the unread count is answered from the partial index on unread
+ * messages ({@code ix_contact_messages_unread_created}, created at startup by SchemaIndexService).
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private static final String STATS_SQL = "SELECT "
+            + "(SELECT COUNT(*) FROM projects) AS projects, "
+            + "(SELECT COUNT(*) FROM blogs) AS blogs, "
+            + "(SELECT COUNT(*) FROM education) AS education, "
+            + "(SELECT COALESCE(SUM(visit_count), 0) FROM profile) AS views, "
+            + "(SELECT COALESCE(SUM(download_count), 0) FROM resume_files) AS downloads, "
+            + "(SELECT COUNT(*) FROM contact_messages WHERE is_read = FALSE) AS unread_messages";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DownloadCounterService downloadCounterService;
+
+    public Map<String, Object> getStats() {
+        return jdbcTemplate.queryForObject(STATS_SQL, (rs, rowNum) -> {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("projects", rs.getLong("projects"));
+            stats.put("blogs", rs.getLong("blogs"));
+            stats.put("education", rs.getLong("education"));
+            stats.put("views", rs.getLong("views"));
+            // Include downloads still buffered in memory so the dashboard never lags behind
+            stats.put("downloads", rs.getLong("downloads") + downloadCounterService.getPendingCount());
+            stats.put("unreadMessages", rs.getLong("unread_messages"));
+            return stats;
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind download counter.
+ * Downloads are counted in memory on the request thread and periodically flushed to
+ * resume_files as a single batched relative UPDATE, so concurrent downloads never race
+ * on a read-modify-write and the request path does no database writes.
+ */
+@Service
+@RequiredArgsConstructor
+public class DownloadCounterService {
+
+    private static final String FLUSH_SQL =
+            "UPDATE resume_files SET download_count = COALESCE(download_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+    public void recordDownload(UUID resumeId) {
+        counters.computeIfAbsent(resumeId, id -> new Counter()).total.increment();
+    }
+
+    /**
+     * Downloads recorded but not yet written to the database.
+     */
+    public long getPendingCount() {
+        return counters.values().stream()
+                .mapToLong(Counter::pending)
+                .sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.download-counter.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<UUID> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+
+        counters.forEach((id, counter) -> {
+            long delta = counter.pending();
+            if (delta > 0) {
+                ids.add(id);
+                deltas.add(delta);
+                batch.add(new Object[]{delta, id});
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            // Nothing is marked as flushed, so the same deltas are retried next time
+            System.err.println("Failed to flush download counters: " + e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            counters.get(ids.get(i)).flushed += deltas.get(i);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Counters are cumulative and never reset; only the flushed watermark moves.
+     * LongAdder#sumThenReset can drop increments racing with the reset, this cannot.
+     */
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        // Guarded by the DownloadCounterService monitor
+        private long flushed;
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
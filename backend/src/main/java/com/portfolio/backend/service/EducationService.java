@@ -1,8 +1,10 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.config.CacheConfig;
 import com.portfolio.backend.entity.Education;
 import com.portfolio.backend.repository.EducationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,11 +15,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EducationService {
     private final EducationRepository repository;
+    private final ContentVersionService contentVersionService;
 
     public List<Education> getAllEducation() {
         return repository.findAllByOrderByOrderIndexAsc();
     }
 
+    @Cacheable(CacheConfig.EDUCATION)
     public List<Education> getPublicEducation() {
         return repository.findByVisibleTrueOrderByOrderIndexAsc();
     }
@@ -27,7 +31,9 @@ public class EducationService {
             // Put it at default 0 or we could fetch max, but Frontend usually handles order or 0 is fine
             education.setOrderIndex(0);
         }
-        return repository.save(education);
+        Education saved = repository.save(education);
+        contentVersionService.markChanged(ContentAggregate.EDUCATION);
+        return saved;
     }
 
     public Education updateEducation(UUID id, Education updated) {
@@ -53,11 +59,14 @@ public class EducationService {
         if(updated.getVisible() != null) existing.setVisible(updated.getVisible());
         if(updated.getOrderIndex() != null) existing.setOrderIndex(updated.getOrderIndex());
         
-        return repository.save(existing);
+        Education saved = repository.save(existing);
+        contentVersionService.markChanged(ContentAggregate.EDUCATION);
+        return saved;
     }
 
     public void deleteEducation(UUID id) {
         repository.deleteById(id);
+        contentVersionService.markChanged(ContentAggregate.EDUCATION);
     }
 
     @Transactional
@@ -70,5 +79,6 @@ public class EducationService {
                 repository.save(education);
             }
         }
+        contentVersionService.markChanged(ContentAggregate.EDUCATION);
     }
 }
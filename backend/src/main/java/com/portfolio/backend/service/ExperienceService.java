@@ -1,8 +1,10 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.config.CacheConfig;
 import com.portfolio.backend.entity.Experience;
 import com.portfolio.backend.repository.ExperienceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,16 +14,21 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ExperienceService {
     private final ExperienceRepository repository;
+    private final ContentVersionService contentVersionService;
 
+    @Cacheable(CacheConfig.EXPERIENCE)
     public List<Experience> getAllExperience() {
         return repository.findAllByOrderByStartDateDesc();
     }
 
     public Experience saveExperience(Experience experience) {
-        return repository.save(experience);
+        Experience saved = repository.save(experience);
+        contentVersionService.markChanged(ContentAggregate.EXPERIENCE);
+        return saved;
     }
     
     public void deleteExperience(UUID id) {
         repository.deleteById(id);
+        contentVersionService.markChanged(ContentAggregate.EXPERIENCE);
     }
 }
@@ -1,7 +1,7 @@
 package com.portfolio.backend.service;
 
-import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import com.portfolio.backend.entity.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,13 +13,13 @@ import java.util.Map;
 public class ImageUploadService {
 
     @Autowired
-    private Cloudinary cloudinary;
+    private CloudinaryClient cloudinaryClient;
+
+    @Autowired
+    private UploadIngestionService uploadIngestionService;
 
     public String uploadImage(MultipartFile file, String folderName) {
-        try {
-            if (file.isEmpty()) {
-                throw new RuntimeException("Empty file");
-            }
+        try (SpooledUpload upload = uploadIngestionService.ingest(file, MediaType.IMAGE)) {
 
             // Upload options: folder, auto format, auto quality handling is done via URL mostly, 
             // but we can set some upload presets here if needed.
@@ -29,7 +29,7 @@ public class ImageUploadService {
                     "resource_type", "image"
             );
 
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), params);
+            Map uploadResult = cloudinaryClient.upload(upload.getFile(), params);
             return (String) uploadResult.get("secure_url");
 
         } catch (IOException e) {
@@ -39,7 +39,7 @@ public class ImageUploadService {
 
     public void deleteImage(String publicId) {
         try {
-            cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+            cloudinaryClient.destroy(publicId, ObjectUtils.emptyMap());
         } catch (IOException e) {
             // Log error but might not want to block flow
             System.err.println("Failed to delete image: " + publicId);
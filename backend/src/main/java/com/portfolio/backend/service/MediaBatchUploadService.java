@@ -0,0 +1,284 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.MediaUploadResultDTO;
+import com.portfolio.backend.entity.MediaFile;
+import com.portfolio.backend.entity.MediaType;
+import com.portfolio.backend.exception.ServiceBusyException;
+import com.portfolio.backend.repository.MediaFileRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk image upload: every file is spooled and validated, identical files are collapsed
+ * (within the batch and against existing assets), the remaining Cloudinary uploads run
+ * concurrently up to {@code app.media.batch.parallelism}, and all new rows are written with a
+ * single JDBC batch insert. When the worker queue is full the batch is refused with a
+ * {@link ServiceBusyException} (503 + Retry-After).
+ */
+@Service
+public class MediaBatchUploadService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO media_files (file_type, url, public_id, file_size, file_name, content_hash, ref_count, uploaded_at, active) "
+                    + "VALUES (:fileType, :url, :publicId, :fileSize, :fileName, :contentHash, :refCount, :uploadedAt, TRUE)";
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE media_files SET ref_count = ref_count + :count, active = TRUE WHERE id = :id";
+
+    private final MediaService mediaService;
+    private final UploadIngestionService uploadIngestionService;
+    private final MediaFileRepository mediaFileRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MediaStatsService mediaStatsService;
+    private final ExecutorService executor;
+
+    @Value("${app.media.batch.max-files:50}")
+    private int maxFiles;
+
+    @Value("${app.media.batch.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    public MediaBatchUploadService(MediaService mediaService,
+                                   UploadIngestionService uploadIngestionService,
+                                   MediaFileRepository mediaFileRepository,
+                                   NamedParameterJdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   MediaStatsService mediaStatsService,
+                                   @Value("${app.media.batch.parallelism:4}") int parallelism,
+                                   @Value("${app.media.batch.queue-capacity:100}") int queueCapacity) {
+        this.mediaService = mediaService;
+        this.uploadIngestionService = uploadIngestionService;
+        this.mediaFileRepository = mediaFileRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.mediaStatsService = mediaStatsService;
+        // Fixed-size pool; AbortPolicy turns a full queue into a RejectedExecutionException
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("media-batch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public List<MediaUploadResultDTO> uploadBatch(List<MultipartFile> files, String folderPath) {
+        if (files.size() > maxFiles) {
+            throw new IllegalArgumentException("At most " + maxFiles + " files can be uploaded at once");
+        }
+
+        MediaUploadResultDTO[] results = new MediaUploadResultDTO[files.size()];
+        List<SpooledUpload> spooled = new ArrayList<>(files.size());
+        try {
+            // Same bytes appearing several times in the batch are uploaded once
+            Map<String, List<Integer>> indexesByHash = new LinkedHashMap<>();
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                try {
+                    SpooledUpload upload = uploadIngestionService.ingest(file, MediaType.IMAGE);
+                    spooled.add(upload);
+                    indexesByHash.computeIfAbsent(upload.getSha256(), hash -> new ArrayList<>()).add(i);
+                } catch (IllegalArgumentException | IOException e) {
+                    spooled.add(null);
+                    results[i] = error(file.getOriginalFilename(), e.getMessage());
+                }
+            }
+            if (indexesByHash.isEmpty()) {
+                return Arrays.asList(results);
+            }
+
+            Map<String, MediaFile> existing = mediaFileRepository.findByContentHashIn(indexesByHash.keySet()).stream()
+                    .collect(Collectors.toMap(MediaFile::getContentHash, Function.identity()));
+
+            Map<String, CompletableFuture<MediaFile>> uploads = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Integer>> entry : indexesByHash.entrySet()) {
+                if (existing.containsKey(entry.getKey())) {
+                    continue;
+                }
+                SpooledUpload upload = spooled.get(entry.getValue().get(0));
+                try {
+                    uploads.put(entry.getKey(), CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return mediaService.uploadToCloudinary(upload, MediaType.IMAGE, folderPath);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executor));
+                } catch (RejectedExecutionException e) {
+                    // The uploads already queued still read the spool files, so wait for them before refusing
+                    discardAll(uploads.values());
+                    throw new ServiceBusyException("Too many uploads in progress, please retry shortly", retryAfterSeconds);
+                }
+            }
+
+            List<MediaFile> uploaded = new ArrayList<>();
+            uploads.forEach((hash, future) -> {
+                try {
+                    MediaFile media = future.join();
+                    // One reference per occurrence in the batch, written with the insert
+                    media.setRefCount(indexesByHash.get(hash).size());
+                    media.setUploadedAt(LocalDateTime.now());
+                    uploaded.add(media);
+                } catch (CompletionException e) {
+                    String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                    for (int index : indexesByHash.get(hash)) {
+                        results[index] = error(files.get(index).getOriginalFilename(), message);
+                    }
+                }
+            });
+
+            Map<String, MediaFile> stored = persist(uploaded, existing, indexesByHash);
+            mediaStatsService.invalidate();
+
+            stored.forEach((hash, media) -> {
+                boolean reused = existing.containsKey(hash) || !isOwnUpload(media, uploaded);
+                List<Integer> indexes = indexesByHash.get(hash);
+                for (int n = 0; n < indexes.size(); n++) {
+                    String status = !reused && n == 0 ? MediaUploadResultDTO.SUCCESS : MediaUploadResultDTO.DEDUPLICATED;
+                    results[indexes.get(n)] = MediaUploadResultDTO.builder()
+                            .fileName(files.get(indexes.get(n)).getOriginalFilename())
+                            .status(status)
+                            .id(media.getId())
+                            .url(media.getUrl())
+                            .publicId(media.getPublicId())
+                            .build();
+                }
+            });
+            return Arrays.asList(results);
+        } finally {
+            spooled.forEach(upload -> {
+                if (upload != null) {
+                    upload.close();
+                }
+            });
+        }
+    }
+
+    /**
+     * Takes the extra references on existing assets and inserts the new rows in one transaction
+     * (two JDBC batches). If a concurrent upload raced us on the content_hash index, falls back to
+     * row-by-row saves, which resolve the race individually. If persisting fails for any other
+     * reason, the uploaded assets that did not get a row are removed from Cloudinary again.
+     */
+    private Map<String, MediaFile> persist(List<MediaFile> uploaded, Map<String, MediaFile> existing,
+                                           Map<String, List<Integer>> indexesByHash) {
+        Map<String, MediaFile> stored = new LinkedHashMap<>(existing);
+        List<MediaFile> unsaved = new ArrayList<>(uploaded);
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    acquireExisting(existing, indexesByHash);
+                    insertAll(uploaded);
+                });
+                uploaded.forEach(media -> stored.put(media.getContentHash(), media));
+                unsaved.clear();
+            } catch (DataIntegrityViolationException e) {
+                transactionTemplate.executeWithoutResult(status -> acquireExisting(existing, indexesByHash));
+                for (MediaFile media : uploaded) {
+                    int occurrences = media.getRefCount();
+                    media.setId(null);
+                    media.setRefCount(1);
+                    // Either stores the row or, on a lost race, discards the asset itself
+                    MediaFile saved = mediaService.saveUploaded(media);
+                    unsaved.remove(media);
+                    for (int n = 1; n < occurrences; n++) {
+                        mediaFileRepository.acquireReference(saved.getId());
+                    }
+                    stored.put(media.getContentHash(), saved);
+                }
+            }
+        } catch (RuntimeException e) {
+            unsaved.forEach(mediaService::discardUpload);
+            throw e;
+        }
+        return stored;
+    }
+
+    private void discardAll(Iterable<CompletableFuture<MediaFile>> uploads) {
+        for (CompletableFuture<MediaFile> upload : uploads) {
+            try {
+                mediaService.discardUpload(upload.join());
+            } catch (CompletionException e) {
+                // Nothing reached Cloudinary
+            }
+        }
+    }
+
+    private void acquireExisting(Map<String, MediaFile> existing, Map<String, List<Integer>> indexesByHash) {
+        if (existing.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = existing.values().stream()
+                .map(media -> new MapSqlParameterSource()
+                        .addValue("id", media.getId())
+                        .addValue("count", indexesByHash.get(media.getContentHash()).size()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ACQUIRE_SQL, params);
+    }
+
+    private void insertAll(List<MediaFile> uploaded) {
+        if (uploaded.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = uploaded.stream()
+                .map(media -> new MapSqlParameterSource()
+                        .addValue("fileType", media.getFileType().name())
+                        .addValue("url", media.getUrl())
+                        .addValue("publicId", media.getPublicId())
+                        .addValue("fileSize", media.getFileSize())
+                        .addValue("fileName", media.getFileName())
+                        .addValue("contentHash", media.getContentHash())
+                        .addValue("refCount", media.getRefCount())
+                        .addValue("uploadedAt", media.getUploadedAt()))
+                .toArray(SqlParameterSource[]::new);
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, params, keyHolder, new String[]{"id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < uploaded.size(); i++) {
+            uploaded.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+    }
+
+    private boolean isOwnUpload(MediaFile media, List<MediaFile> uploaded) {
+        return uploaded.stream().anyMatch(own -> own.getPublicId().equals(media.getPublicId()));
+    }
+
+    private MediaUploadResultDTO error(String fileName, String message) {
+        return MediaUploadResultDTO.builder()
+                .fileName(fileName)
+                .status(MediaUploadResultDTO.ERROR)
+                .error(message)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
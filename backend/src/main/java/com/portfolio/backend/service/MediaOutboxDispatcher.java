@@ -0,0 +1,159 @@
+package com.portfolio.backend.service;
+
+import com.cloudinary.utils.ObjectUtils;
+import com.portfolio.backend.entity.MediaOutbox;
+import com.portfolio.backend.entity.OutboxStatus;
+import com.portfolio.backend.exception.ServiceBusyException;
+import com.portfolio.backend.repository.MediaOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Drains {@code media_outbox}: claims due entries in a short transaction, deletes them from
+ * Cloudinary in bulk (grouped by resource type, 100 ids per call) with no connection held,
+ * then removes confirmed entries and reschedules failures with exponential backoff.
+ * Entries that keep failing are parked as DEAD for manual inspection.
+ */
+@Service
+public class MediaOutboxDispatcher {
+
+    // Cloudinary's delete_resources limit
+    private static final int MAX_IDS_PER_CALL = 100;
+
+    private final MediaOutboxRepository mediaOutboxRepository;
+    private final CloudinaryClient cloudinaryClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.media.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.media.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.media.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.media.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    // How long a claimed entry stays invisible to other dispatchers while its remote call runs
+    @Value("${app.media.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    public MediaOutboxDispatcher(MediaOutboxRepository mediaOutboxRepository,
+                                 CloudinaryClient cloudinaryClient,
+                                 TransactionTemplate transactionTemplate) {
+        this.mediaOutboxRepository = mediaOutboxRepository;
+        this.cloudinaryClient = cloudinaryClient;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.media.outbox.poll-interval-ms:5000}")
+    public synchronized void dispatch() {
+        List<MediaOutbox> claimed = claimDue();
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<MediaOutbox>> byResourceType = claimed.stream()
+                .collect(Collectors.groupingBy(MediaOutbox::getResourceType));
+
+        for (Map.Entry<String, List<MediaOutbox>> group : byResourceType.entrySet()) {
+            List<MediaOutbox> entries = group.getValue();
+            for (int from = 0; from < entries.size(); from += MAX_IDS_PER_CALL) {
+                List<MediaOutbox> chunk = entries.subList(from, Math.min(from + MAX_IDS_PER_CALL, entries.size()));
+                deleteChunk(group.getKey(), chunk);
+            }
+        }
+    }
+
+    private List<MediaOutbox> claimDue() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MediaOutbox> due = mediaOutboxRepository.lockDue(OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            due.forEach(entry -> entry.setNextAttemptAt(now.plusSeconds(leaseSeconds)));
+            return due;
+        });
+    }
+
+    private void deleteChunk(String resourceType, List<MediaOutbox> chunk) {
+        List<String> publicIds = chunk.stream().map(MediaOutbox::getPublicId).collect(Collectors.toList());
+
+        Set<String> confirmed = new HashSet<>();
+        String error = null;
+        try {
+            Map result = cloudinaryClient.deleteResources(publicIds,
+                    ObjectUtils.asMap("resource_type", resourceType));
+            Object deleted = result.get("deleted");
+            if (deleted instanceof Map) {
+                ((Map<?, ?>) deleted).forEach((publicId, outcome) -> {
+                    // "not_found" means the asset is already gone, which is what we wanted
+                    if ("deleted".equals(outcome) || "not_found".equals(outcome)) {
+                        confirmed.add(String.valueOf(publicId));
+                    }
+                });
+            }
+            if (confirmed.size() < publicIds.size()) {
+                error = "Cloudinary did not confirm deletion";
+            }
+        } catch (ServiceBusyException e) {
+            // Breaker open or bulkhead full: not the entries' fault, so don't spend an attempt
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime retryAt = LocalDateTime.now().plusSeconds(e.getRetryAfterSeconds());
+                chunk.forEach(entry -> entry.setNextAttemptAt(retryAt));
+                mediaOutboxRepository.saveAll(chunk);
+            });
+            return;
+        } catch (Exception e) {
+            error = e.getMessage();
+        }
+
+        List<MediaOutbox> done = new ArrayList<>();
+        List<MediaOutbox> failed = new ArrayList<>();
+        for (MediaOutbox entry : chunk) {
+            (confirmed.contains(entry.getPublicId()) ? done : failed).add(entry);
+        }
+
+        String lastError = error;
+        transactionTemplate.executeWithoutResult(status -> {
+            mediaOutboxRepository.deleteAllInBatch(done);
+            LocalDateTime now = LocalDateTime.now();
+            for (MediaOutbox entry : failed) {
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setLastError(truncate(lastError));
+                if (entry.getAttempts() >= maxAttempts) {
+                    entry.setStatus(OutboxStatus.DEAD);
+                    System.err.println("Giving up on Cloudinary deletion of " + entry.getPublicId() + ": " + lastError);
+                } else {
+                    entry.setNextAttemptAt(now.plusSeconds(backoffSeconds(entry.getAttempts())));
+                }
+            }
+            mediaOutboxRepository.saveAll(failed);
+        });
+    }
+
+    private long backoffSeconds(int attempts) {
+        // Exponential with jitter in [ceiling/2, ceiling] so retries of one batch spread out
+        long ceiling = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -1,40 +1,54 @@
 package com.portfolio.backend.service;
 
-import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import com.portfolio.backend.common.KeysetCursor;
+import com.portfolio.backend.dto.CursorPage;
+import com.portfolio.backend.dto.MediaStats;
+import com.portfolio.backend.dto.MediaSummary;
 import com.portfolio.backend.entity.MediaFile;
+import com.portfolio.backend.entity.MediaOutbox;
 import com.portfolio.backend.entity.MediaType;
 import com.portfolio.backend.repository.MediaFileRepository;
+import com.portfolio.backend.repository.MediaOutboxRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class MediaService {
 
-    private final Cloudinary cloudinary;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final CloudinaryClient cloudinaryClient;
     private final MediaFileRepository mediaFileRepository;
+    private final MediaOutboxRepository mediaOutboxRepository;
+    private final MediaStatsService mediaStatsService;
+    private final UploadIngestionService uploadIngestionService;
+    private final TransactionTemplate transactionTemplate;
 
     public MediaFile getMediaById(Long id) {
         return mediaFileRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Media file not found"));
     }
 
-    @Transactional
+    // Uploads are deliberately not @Transactional: the Cloudinary round trip must not pin a pooled
+    // connection. Database work is done in short transactions around it.
     public MediaFile uploadMedia(MultipartFile file, MediaType type) throws IOException {
-        String subFolder = type == MediaType.CV ? "resumes" : "general";
-        if (type == MediaType.IMAGE) subFolder = "images";
-        return uploadMedia(file, type, "portfolio/" + subFolder);
+        return uploadMedia(file, type, defaultFolder(type));
     }
 
-    @Transactional
     public MediaFile uploadImage(MultipartFile file, String folder) {
         try {
             return uploadMedia(file, MediaType.IMAGE, "portfolio/" + folder);
@@ -46,42 +60,134 @@ public class MediaService {
     @Value("${app.upload-dir:uploads}")
     private String uploadDir;
 
-    @Transactional
     public MediaFile uploadMedia(MultipartFile file, MediaType type, String folderPath) throws IOException {
-        // Validate file
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("File is empty");
+        // Spool once; type, size cap and magic bytes are validated during ingestion
+        try (SpooledUpload upload = uploadIngestionService.ingest(file, type)) {
+            return uploadMedia(upload, type, folderPath);
         }
+    }
 
-        // Validate file type for CV
-        if (type == MediaType.CV && !file.getOriginalFilename().toLowerCase().endsWith(".pdf")) {
-            throw new IllegalArgumentException("Only PDF files are allowed for CV");
-        }
+    public MediaFile uploadMedia(SpooledUpload upload, MediaType type) throws IOException {
+        return uploadMedia(upload, type, defaultFolder(type));
+    }
 
-        // Deactivate previous files of the same type
+    public MediaFile uploadMedia(SpooledUpload upload, MediaType type, String folderPath) throws IOException {
+        // Handle CVs: Save to Local Filesystem (Single File Policy)
         if (type == MediaType.CV) {
+            return storeCv(upload);
+        }
+
+        // Same bytes already stored: hand out the existing asset instead of uploading again
+        Optional<MediaFile> existing = mediaFileRepository.findByContentHash(upload.getSha256());
+        if (existing.isPresent()) {
+            return acquireExisting(existing.get().getId());
+        }
+
+        MediaFile mediaFile = uploadToCloudinary(upload, type, folderPath);
+        return saveUploaded(mediaFile);
+    }
+
+    /**
+     * Uploads the spooled bytes to Cloudinary and returns the unsaved MediaFile describing the asset.
+     */
+    public MediaFile uploadToCloudinary(SpooledUpload upload, MediaType type, String folderPath) throws IOException {
+        Map uploadResult;
+        try {
+            // Upload to Cloudinary for other types (images)
+            Map uploadParams = ObjectUtils.asMap(
+                    "folder", folderPath,
+                    "resource_type", "auto",
+                    "use_filename", true,
+                    "unique_filename", true,
+                    "overwrite", false
+            );
+
+            // Upload file (streamed from the spool file)
+            uploadResult = cloudinaryClient.upload(upload.getFile(), uploadParams);
+        } catch (IOException e) {
+            throw new IOException("Failed to upload file to Cloudinary: " + e.getMessage(), e);
+        }
+
+        // Extract results
+        String publicId = (String) uploadResult.get("public_id");
+        String url = (String) uploadResult.get("secure_url");
+
+        // Build MediaFile entity
+        return MediaFile.builder()
+                .publicId(publicId)
+                .url(url)
+                .fileType(type)
+                .fileSize(upload.getSize())
+                .fileName(upload.getOriginalFilename())
+                .contentHash(upload.getSha256())
+                .active(true)
+                .build();
+    }
+
+    /**
+     * Saves a freshly uploaded asset. If a concurrent upload of the same bytes won the unique
+     * index, our asset is dropped and a reference on the winner is returned instead.
+     */
+    public MediaFile saveUploaded(MediaFile mediaFile) {
+        try {
+            MediaFile saved = mediaFileRepository.save(mediaFile);
+            mediaStatsService.recordAdded(saved.getFileType(), saved.getFileSize());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            MediaFile winner = mediaFileRepository.findByContentHash(mediaFile.getContentHash()).orElseThrow(() -> e);
+            discardUpload(mediaFile);
+            return acquireExisting(winner.getId());
+        }
+    }
+
+    /**
+     * Best-effort removal of an uploaded asset that never got a media row (lost dedup race,
+     * failed insert), so it is not left orphaned on Cloudinary.
+     */
+    public void discardUpload(MediaFile mediaFile) {
+        try {
+            cloudinaryClient.destroy(mediaFile.getPublicId(), ObjectUtils.asMap("resource_type", "image"));
+        } catch (Exception destroyError) {
+            System.err.println("Failed to remove unused upload " + mediaFile.getPublicId() + ": " + destroyError.getMessage());
+        }
+    }
+
+    private MediaFile acquireExisting(Long id) {
+        mediaFileRepository.acquireReference(id);
+        // May have re-activated the asset
+        mediaStatsService.invalidate();
+        return mediaFileRepository.findById(id).orElseThrow();
+    }
+
+    private MediaFile storeCv(SpooledUpload upload) throws IOException {
+        final String FIXED_CV_ID = "CV_FILE";
+
+        // Create target directory if not exists
+        java.nio.file.Path targetDir = java.nio.file.Paths.get(uploadDir, "cv");
+        if (!java.nio.file.Files.exists(targetDir)) {
+            java.nio.file.Files.createDirectories(targetDir);
+        }
+
+        // Fixed filename
+        java.nio.file.Path targetPath = targetDir.resolve("Mukesh_Silwal_cv.pdf");
+
+        // Copy next to the target and swap atomically so in-flight downloads keep reading the old file
+        java.nio.file.Path tempPath = java.nio.file.Files.createTempFile(targetDir, "cv-", ".tmp");
+        try {
+            java.nio.file.Files.copy(upload.getPath(), tempPath, StandardCopyOption.REPLACE_EXISTING);
+            java.nio.file.Files.move(tempPath, targetPath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            java.nio.file.Files.deleteIfExists(tempPath);
+        }
+
+        return transactionTemplate.execute(status -> {
+            // Deactivate previous files of the same type
             List<MediaFile> activeFiles = mediaFileRepository.findByFileTypeAndActiveTrue(MediaType.CV);
             activeFiles.forEach(media -> {
                 media.setActive(false);
                 mediaFileRepository.save(media);
             });
-        }
-
-        // Handle CVs: Save to Local Filesystem (Single File Policy)
-        if (type == MediaType.CV) {
-            final String FIXED_CV_ID = "CV_FILE";
-            
-            // Create target directory if not exists
-            java.nio.file.Path targetDir = java.nio.file.Paths.get(uploadDir, "cv");
-            if (!java.nio.file.Files.exists(targetDir)) {
-                java.nio.file.Files.createDirectories(targetDir);
-            }
-            
-            // Fixed filename
-            java.nio.file.Path targetPath = targetDir.resolve("Mukesh_Silwal_cv.pdf");
-            
-            // Write file (Overwrite)
-            java.nio.file.Files.write(targetPath, file.getBytes());
 
             // Check if CV database record already exists
             MediaFile mediaFile = mediaFileRepository.findByPublicId(FIXED_CV_ID)
@@ -91,9 +197,8 @@ public class MediaService {
                             .url("/api/public/media/cv/download")
                             .build());
 
-            // Update metadata (No BLOB data here)
-            mediaFile.setData(null); // Ensure no BLOB data is stored
-            mediaFile.setFileSize(file.getSize());
+            // Update metadata
+            mediaFile.setFileSize(upload.getSize());
             mediaFile.setFileName("Mukesh_Silwal_cv.pdf"); // Fixed name
             mediaFile.setActive(true);
             mediaFile.setUploadedAt(java.time.LocalDateTime.now()); // Update timestamp to show "Fresh" status
@@ -112,42 +217,16 @@ public class MediaService {
                     }
                 }
             }
-            
-            return savedFile;
-        }
-
-        try {
-            // Upload to Cloudinary for other types (images)
-            Map uploadParams = ObjectUtils.asMap(
-                    "folder", folderPath,
-                    "resource_type", "auto",
-                    "use_filename", true,
-                    "unique_filename", true,
-                    "overwrite", false
-            );
-
-            // Upload file
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), uploadParams);
-
-            // Extract results
-            String publicId = (String) uploadResult.get("public_id");
-            String url = (String) uploadResult.get("secure_url");
 
-            // Build MediaFile entity
-            MediaFile mediaFile = MediaFile.builder()
-                    .publicId(publicId)
-                    .url(url)
-                    .fileType(type)
-                    .fileSize(file.getSize())
-                    .fileName(file.getOriginalFilename())
-                    .active(true)
-                    .build();
-
-            return mediaFileRepository.save(mediaFile);
+            mediaStatsService.invalidate();
+            return savedFile;
+        });
+    }
 
-        } catch (IOException e) {
-            throw new IOException("Failed to upload file to Cloudinary: " + e.getMessage(), e);
-        }
+    private String defaultFolder(MediaType type) {
+        String subFolder = type == MediaType.CV ? "resumes" : "general";
+        if (type == MediaType.IMAGE) subFolder = "images";
+        return "portfolio/" + subFolder;
     }
 
     public MediaFile getActiveMediaByType(MediaType type) {
@@ -163,6 +242,35 @@ public class MediaService {
                 .orElseThrow(() -> new RuntimeException("No active " + type + " found"));
     }
 
+    /**
+     * Keyset-paginated media library, newest first. {@code cursor} is the nextCursor of the previous page.
+     */
+    public CursorPage<MediaSummary> listMedia(MediaType type, Boolean active, String fileNamePrefix,
+                                              String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        LocalDateTime afterUploadedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            afterUploadedAt = position.timestamp();
+            afterId = Long.valueOf(position.id());
+        }
+
+        // One extra row tells us whether another page exists
+        List<MediaSummary> rows = mediaFileRepository.findSummaries(
+                type, active, fileNamePrefix, afterUploadedAt, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<MediaSummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            MediaSummary last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getUploadedAt(), String.valueOf(last.getId())).encode();
+        }
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
     public List<MediaFile> getAllMediaByType(MediaType type) {
         return mediaFileRepository.findByFileTypeOrderByUploadedAtDesc(type);
     }
@@ -171,43 +279,61 @@ public class MediaService {
         return mediaFileRepository.findByActiveTrue();
     }
 
+    /**
+     * Releases one reference to the asset. Only the last reference removes the media row and
+     * records the remote Cloudinary deletion in the outbox, in one transaction;
+     * {@link MediaOutboxDispatcher} performs the remote delete in the background.
+     */
     @Transactional
-    public void deleteMedia(String publicId) throws IOException {
+    public void deleteMedia(String publicId) {
         MediaFile mediaFile = mediaFileRepository.findByPublicId(publicId)
                 .orElseThrow(() -> new RuntimeException("Media file not found"));
-
-        // Delete from Cloudinary
-        try {
-            Map params = ObjectUtils.asMap(
-                    "resource_type", mediaFile.getFileType() == MediaType.CV ? "raw" : "image"
-            );
-            cloudinary.uploader().destroy(publicId, params);
-        } catch (Exception e) {
-            throw new IOException("Failed to delete from Cloudinary: " + e.getMessage());
-        }
-
-        // Delete from database
-        mediaFileRepository.delete(mediaFile);
+        release(mediaFile);
     }
 
     @Transactional
     public void deleteMediaByPublicId(String publicId) {
-        try {
-            deleteMedia(publicId);
-        } catch (IOException e) {
-            throw new RuntimeException("Deletion failed for publicId: " + publicId);
-        }
+        deleteMedia(publicId);
     }
 
+    /**
+     * Releases one reference to the asset behind the URL (image replaced on a profile, project, ...).
+     * The asset is only destroyed once no other upload still points at it.
+     */
     @Transactional
     public void deleteMediaByUrl(String url) {
-        mediaFileRepository.findByUrl(url).ifPresent(media -> {
-            try {
-                deleteMedia(media.getPublicId());
-            } catch (IOException e) {
-                // Log error but maybe don't stall the whole process if it's just a cleanup
+        mediaFileRepository.findByUrl(url).ifPresent(this::release);
+    }
+
+    private void release(MediaFile mediaFile) {
+        if (!releaseOrDelete(mediaFile.getId())) {
+            return;
+        }
+
+        mediaOutboxRepository.save(MediaOutbox.builder()
+                .publicId(mediaFile.getPublicId())
+                .resourceType(mediaFile.getFileType() == MediaType.CV ? "raw" : "image")
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        mediaStatsService.recordRemoved(mediaFile.getFileType(), mediaFile.isActive(), mediaFile.getFileSize());
+    }
+
+    /**
+     * Drops one reference, deleting the row if it was the last one. Returns true only if this call
+     * deleted the row, i.e. the remote asset should go too. The delete is conditional, so a
+     * reference acquired in between keeps the row and the next pass decrements it instead.
+     */
+    private boolean releaseOrDelete(Long id) {
+        while (mediaFileRepository.releaseReference(id) == 0) {
+            if (mediaFileRepository.deleteIfLastReference(id) > 0) {
+                return true;
             }
-        });
+            if (!mediaFileRepository.existsById(id)) {
+                // Already gone: whoever deleted it owns the cleanup
+                return false;
+            }
+        }
+        return false;
     }
 
     @Transactional
@@ -215,11 +341,19 @@ public class MediaService {
         MediaFile mediaFile = mediaFileRepository.findByPublicId(publicId)
                 .orElseThrow(() -> new RuntimeException("Media file not found"));
 
+        if (!mediaFile.isActive()) {
+            return;
+        }
         mediaFile.setActive(false);
         mediaFileRepository.save(mediaFile);
+        mediaStatsService.recordDeactivated(mediaFile.getFileType(), mediaFile.getFileSize());
     }
 
     public long countActiveByType(MediaType type) {
-        return mediaFileRepository.countByFileTypeAndActiveTrue(type);
+        return mediaStatsService.getStats().activeCount(type);
+    }
+
+    public MediaStats getStats() {
+        return mediaStatsService.getStats();
     }
 }
\ No newline at end of file
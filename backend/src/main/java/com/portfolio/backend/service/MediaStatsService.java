@@ -0,0 +1,87 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.MediaStats;
+import com.portfolio.backend.entity.MediaType;
+import com.portfolio.backend.repository.MediaFileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serves media statistics from an in-memory snapshot built by one GROUP BY query.
+ * Writes in MediaService apply deltas to the snapshot after commit (or drop it when the
+ * effect is not known exactly), so dashboard polling never reaches the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class MediaStatsService {
+
+    private final MediaFileRepository mediaFileRepository;
+
+    private final AtomicReference<MediaStats> snapshot = new AtomicReference<>();
+
+    // Bumped by every change; a load only publishes if no change landed while it was querying
+    private final AtomicLong generation = new AtomicLong();
+
+    public MediaStats getStats() {
+        MediaStats current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        long startedAt = generation.get();
+        MediaStats loaded = MediaStats.fromRows(mediaFileRepository.aggregateByTypeAndActive());
+        if (generation.get() == startedAt) {
+            snapshot.compareAndSet(null, loaded);
+        }
+        return loaded;
+    }
+
+    public void recordAdded(MediaType type, Long bytes) {
+        afterCommit(() -> apply(stats -> stats.plus(type, true, 1, size(bytes))));
+    }
+
+    public void recordRemoved(MediaType type, boolean active, Long bytes) {
+        afterCommit(() -> apply(stats -> stats.plus(type, active, -1, -size(bytes))));
+    }
+
+    public void recordDeactivated(MediaType type, Long bytes) {
+        afterCommit(() -> apply(stats -> stats
+                .plus(type, true, -1, -size(bytes))
+                .plus(type, false, 1, size(bytes))));
+    }
+
+    /** For changes whose exact effect is unknown (reference takes, CV replacement): rebuild on next read. */
+    public void invalidate() {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            snapshot.set(null);
+        });
+    }
+
+    private void apply(UnaryOperator<MediaStats> delta) {
+        generation.incrementAndGet();
+        snapshot.updateAndGet(stats -> stats == null ? null : delta.apply(stats));
+    }
+
+    private long size(Long bytes) {
+        return bytes != null ? bytes : 0;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
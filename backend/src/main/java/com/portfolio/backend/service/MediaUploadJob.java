@@ -0,0 +1,63 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.UploadedMediaDTO;
+import com.portfolio.backend.entity.MediaFile;
+import com.portfolio.backend.entity.MediaType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of one upload accepted by {@link MediaUploadJobService}.
+ * Written by a single worker thread and read by status polls, hence the volatile fields.
+ */
+@Getter
+public class MediaUploadJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final UUID id = UUID.randomUUID();
+    private final MediaType mediaType;
+    private final String fileName;
+    private final long fileSize;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    // Not the entity itself: this is serialised straight into the job status response
+    private volatile UploadedMediaDTO result;
+    private volatile String error;
+
+    MediaUploadJob(MediaType mediaType, String fileName, long fileSize) {
+        this.mediaType = mediaType;
+        this.fileName = fileName;
+        this.fileSize = fileSize;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void markCompleted(MediaFile media) {
+        result = UploadedMediaDTO.builder()
+                .id(media.getId())
+                .url(media.getUrl())
+                .publicId(media.getPublicId())
+                .build();
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,124 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.entity.MediaFile;
+import com.portfolio.backend.entity.MediaType;
+import com.portfolio.backend.exception.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Accepts uploads into a bounded queue and runs the Cloudinary round trip on a dedicated
+ * worker pool, so request threads return as soon as the file is spooled to disk.
+ * When the queue is full the caller gets a {@link ServiceBusyException} (503 + Retry-After).
+ */
+@Service
+public class MediaUploadJobService {
+
+    private final MediaService mediaService;
+    private final UploadIngestionService uploadIngestionService;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, MediaUploadJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.media.upload.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    @Value("${app.media.upload.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    public MediaUploadJobService(MediaService mediaService,
+                                 UploadIngestionService uploadIngestionService,
+                                 @Value("${app.media.upload.workers:4}") int workers,
+                                 @Value("${app.media.upload.queue-capacity:50}") int queueCapacity) {
+        this.mediaService = mediaService;
+        this.uploadIngestionService = uploadIngestionService;
+        // Fixed-size pool; AbortPolicy turns a full queue into a RejectedExecutionException
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("media-upload-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public MediaUploadJob submit(MultipartFile file, MediaType type, String folderPath) throws IOException {
+        return submit(file, type, folderPath, null);
+    }
+
+    /**
+     * Spools and validates the file on the calling thread (so bad input is still a 400), then
+     * queues the remote upload. {@code onComplete} runs on the worker once the media row exists;
+     * if it throws, the upload's reference to the asset is released and the job is reported as failed.
+     */
+    public MediaUploadJob submit(MultipartFile file, MediaType type, String folderPath,
+                                 Consumer<MediaFile> onComplete) throws IOException {
+        SpooledUpload upload = uploadIngestionService.ingest(file, type);
+        MediaUploadJob job = new MediaUploadJob(type, upload.getOriginalFilename(), upload.getSize());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, upload, folderPath, onComplete));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            upload.close();
+            throw new ServiceBusyException("Upload queue is full, please retry shortly", retryAfterSeconds);
+        }
+        return job;
+    }
+
+    public Optional<MediaUploadJob> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    private void run(MediaUploadJob job, SpooledUpload upload, String folderPath, Consumer<MediaFile> onComplete) {
+        job.markRunning();
+        try (upload) {
+            MediaFile media = folderPath != null
+                    ? mediaService.uploadMedia(upload, job.getMediaType(), folderPath)
+                    : mediaService.uploadMedia(upload, job.getMediaType());
+            if (onComplete != null) {
+                try {
+                    onComplete.accept(media);
+                } catch (RuntimeException e) {
+                    // Nothing will point at the new asset: drop the reference this upload took
+                    try {
+                        mediaService.deleteMediaByUrl(media.getUrl());
+                    } catch (RuntimeException releaseFailure) {
+                        e.addSuppressed(releaseFailure);
+                    }
+                    throw e;
+                }
+            }
+            job.markCompleted(media);
+        } catch (Exception e) {
+            System.err.println("Upload job " + job.getId() + " failed: " + e.getMessage());
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
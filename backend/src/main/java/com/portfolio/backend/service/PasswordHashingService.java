@@ -0,0 +1,107 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt work (password checks during login, hashing during registration) on a small
+ * fixed pool with a bounded queue, so credential traffic can use at most
+ * {@code app.auth.hashing.threads} cores. When the queue is full the caller gets a
+ * {@link ServiceBusyException} instead of another Tomcat thread burning CPU.
+ * Exposes {@code auth.hashing.queue} / {@code auth.hashing.active} gauges and an
+ * {@code auth.hashing.rejections} counter.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final AuthenticationManager authenticationManager;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+
+    @Value("${app.auth.hashing.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${app.auth.hashing.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    public PasswordHashingService(AuthenticationManager authenticationManager,
+                                  PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.auth.hashing.threads:2}") int threads,
+                                  @Value("${app.auth.hashing.queue-capacity:32}") int queueCapacity) {
+        this.authenticationManager = authenticationManager;
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("auth.hashing.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.hashing.rejections").register(meterRegistry);
+    }
+
+    /**
+     * Authenticates through the {@link AuthenticationManager} (which performs the BCrypt check)
+     * on the hashing pool. Authentication failures propagate unchanged.
+     */
+    public Authentication authenticate(Authentication request) {
+        return run(() -> authenticationManager.authenticate(request));
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceBusyException("Too many sign-in attempts in progress, please retry shortly", retryAfterSeconds);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            // Queued behind too much work; drop it rather than holding the request thread longer
+            future.cancel(true);
+            rejections.increment();
+            throw new ServiceBusyException("Sign-in is taking too long, please retry shortly", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException("Sign-in was interrupted, please retry", retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,245 @@
+package com.portfolio.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.common.ApiResponse;
+import com.portfolio.backend.dto.PortfolioSnapshot;
+import com.portfolio.backend.dto.ProfileDTO;
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.dto.SkillDTO;
+import com.portfolio.backend.entity.BlogPost;
+import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.entity.Experience;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the whole public homepage pre-rendered in memory. Any content change schedules a rebuild
+ * (debounced, so a burst of admin edits costs one rebuild); the rebuild loads the six sections
+ * concurrently, serialises the {@link ApiResponse} envelope once and keeps the UTF-8 bytes plus a
+ * gzip variant. Requests are answered from the current {@link Rendered} without touching the database.
+ */
+@Service
+public class PortfolioSnapshotService {
+
+    private final ProfileService profileService;
+    private final SkillService skillService;
+    private final ProjectService projectService;
+    private final ExperienceService experienceService;
+    private final EducationService educationService;
+    private final BlogService blogService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService loaders;
+    private final ScheduledExecutorService rebuilder;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile Rendered current;
+
+    @Value("${app.snapshot.latest-blogs:3}")
+    private int latestBlogs;
+
+    @Value("${app.snapshot.debounce-ms:500}")
+    private long debounceMs;
+
+    public PortfolioSnapshotService(ProfileService profileService,
+                                    SkillService skillService,
+                                    ProjectService projectService,
+                                    ExperienceService experienceService,
+                                    EducationService educationService,
+                                    BlogService blogService,
+                                    TransactionTemplate transactionTemplate,
+                                    ObjectMapper objectMapper,
+                                    ContentVersionService contentVersionService) {
+        this.profileService = profileService;
+        this.skillService = skillService;
+        this.projectService = projectService;
+        this.experienceService = experienceService;
+        this.educationService = educationService;
+        this.blogService = blogService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.loaders = new ThreadPoolExecutor(6, 6, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("snapshot-load-"));
+        ((ThreadPoolExecutor) loaders).allowCoreThreadTimeOut(true);
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("snapshot-rebuild-"));
+        contentVersionService.addChangeListener(aggregate -> scheduleRebuild());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleRebuild();
+    }
+
+    /**
+     * The current rendering. Only the very first request after startup (if it beats the warm-up)
+     * builds synchronously.
+     */
+    public Rendered getSnapshot() {
+        Rendered snapshot = current;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (current == null) {
+                    current = build();
+                }
+                snapshot = current;
+            }
+        }
+        return snapshot;
+    }
+
+    private void scheduleRebuild() {
+        // Changes arriving while a rebuild is pending are covered by it; once it starts, they schedule a new one
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.schedule(this::rebuild, debounceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false);
+        try {
+            Rendered rendered = build();
+            synchronized (this) {
+                current = rendered;
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the previous rendering rather than nothing
+            System.err.println("Portfolio snapshot rebuild failed: " + e.getMessage());
+        }
+    }
+
+    private Rendered build() {
+        CompletableFuture<ProfileDTO> profile = load(profileService::getProfile);
+        CompletableFuture<List<SkillDTO>> skills = load(skillService::getAllSkills);
+        CompletableFuture<List<ProjectDTO>> projects = load(projectService::getAllProjects);
+        CompletableFuture<List<Experience>> experience = load(experienceService::getAllExperience);
+        CompletableFuture<List<Education>> education = load(educationService::getPublicEducation);
+        CompletableFuture<List<BlogPost>> blogs = load(this::loadLatestBlogs);
+
+        try {
+            PortfolioSnapshot snapshot = PortfolioSnapshot.builder()
+                    .profile(profile.join())
+                    .skills(skills.join())
+                    .projects(projects.join())
+                    .experience(experience.join())
+                    .education(education.join())
+                    .latestBlogs(blogs.join())
+                    .build();
+            // The ETag covers the content only, so a rebuild that changed nothing keeps serving the
+            // previous rendering (and its generatedAt) and clients keep getting 304s
+            String etag = etag(objectMapper.writeValueAsBytes(snapshot));
+            Rendered previous = current;
+            if (previous != null && previous.etag.equals(etag)) {
+                return previous;
+            }
+
+            snapshot.setGeneratedAt(LocalDateTime.now());
+            byte[] json = objectMapper.writeValueAsBytes(
+                    ApiResponse.success("Portfolio snapshot retrieved successfully", snapshot));
+            return new Rendered(json, gzip(json), etag);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Failed to load portfolio snapshot: " + cause.getMessage(), cause);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialise portfolio snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, loaders);
+    }
+
+    private List<BlogPost> loadLatestBlogs() {
+        // Serialisation happens outside any session, so the lazy tag collections are loaded here
+        return transactionTemplate.execute(status -> {
+            List<BlogPost> posts = blogService.getPublishedPosts(
+                    PageRequest.of(0, latestBlogs, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+            posts.forEach(post -> Hibernate.initialize(post.getTags()));
+            return posts;
+        });
+    }
+
+    private byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("gzip of an in-memory buffer failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    private String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"snapshot-" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+        loaders.shutdown();
+    }
+
+    /**
+     * One immutable rendering: identity bytes, gzip bytes and content-derived ETags, so
+     * rebuilding unchanged content keeps clients' cached copies valid.
+     */
+    public static final class Rendered {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+
+        private Rendered(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getGzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+}
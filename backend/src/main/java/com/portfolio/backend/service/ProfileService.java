@@ -1,10 +1,12 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.config.CacheConfig;
 import com.portfolio.backend.dto.ProfileDTO;
 import com.portfolio.backend.entity.Profile;
 import com.portfolio.backend.mapper.ProfileMapper;
 import com.portfolio.backend.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,7 +16,9 @@ import java.util.List;
 public class ProfileService {
     private final ProfileRepository repository;
     private final ProfileMapper mapper;
+    private final ContentVersionService contentVersionService;
 
+    @Cacheable(CacheConfig.PROFILE)
     public ProfileDTO getProfile() {
         return repository.findAll().stream()
                 .findFirst()
@@ -45,8 +49,11 @@ public class ProfileService {
             existingOrNew.setProfileImage(dto.getProfileImage());
             existingOrNew.setAvailabilityStatus(dto.getAvailabilityStatus());
         }
-        return mapper.toDto(repository.save(existingOrNew));
+        ProfileDTO saved = mapper.toDto(repository.save(existingOrNew));
+        contentVersionService.markChanged(ContentAggregate.PROFILE);
+        return saved;
     }
+
     public String updateProfileImage(String imageUrl) {
         List<Profile> profiles = repository.findAll();
         Profile profile;
@@ -63,7 +70,8 @@ public class ProfileService {
         profile.setProfileImageUrl(imageUrl);
         profile.setProfileImage(imageUrl); // Sync for backward compatibility
         repository.save(profile);
-        
+        contentVersionService.markChanged(ContentAggregate.PROFILE);
+
         return oldUrl;
     }
 }
@@ -1,10 +1,12 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.config.CacheConfig;
 import com.portfolio.backend.dto.ProjectDTO;
 import com.portfolio.backend.entity.Project;
 import com.portfolio.backend.mapper.ProjectMapper;
 import com.portfolio.backend.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,13 +18,17 @@ import java.util.stream.Collectors;
 public class ProjectService {
     private final ProjectRepository repository;
     private final ProjectMapper mapper;
+    private final ContentVersionService contentVersionService;
+    private final SearchIndexService searchIndexService;
 
+    @Cacheable(CacheConfig.PROJECTS)
     public List<ProjectDTO> getAllProjects() {
         return repository.findAll().stream()
                 .map(mapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheConfig.PROJECT)
     public ProjectDTO getProjectById(UUID id) {
         return repository.findById(id)
                 .map(mapper::toDto)
@@ -31,7 +37,10 @@ public class ProjectService {
 
     public ProjectDTO createProject(ProjectDTO dto) {
         Project entity = mapper.toEntity(dto);
-        return mapper.toDto(repository.save(entity));
+        ProjectDTO saved = mapper.toDto(repository.save(entity));
+        contentVersionService.markChanged(ContentAggregate.PROJECTS);
+        searchIndexService.indexProject(saved);
+        return saved;
     }
 
     public ProjectDTO updateProject(UUID id, ProjectDTO dto) {
@@ -51,12 +60,18 @@ public class ProjectService {
         existing.setEndDate(dto.getEndDate());
         existing.setIsFeatured(dto.getIsFeatured());
 
-        return mapper.toDto(repository.save(existing));
+        ProjectDTO saved = mapper.toDto(repository.save(existing));
+        contentVersionService.markChanged(ContentAggregate.PROJECTS);
+        searchIndexService.indexProject(saved);
+        return saved;
     }
 
     public void deleteProject(UUID id) {
         repository.deleteById(id);
+        contentVersionService.markChanged(ContentAggregate.PROJECTS);
+        searchIndexService.removeProject(id);
     }
+
     public String updateProjectImage(UUID id, String imageUrl) {
         Project project = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -67,7 +82,8 @@ public class ProjectService {
         project.setProjectImageUrl(imageUrl);
         project.setProjectImage(imageUrl); // Sync
         repository.save(project);
-        
+        contentVersionService.markChanged(ContentAggregate.PROJECTS);
+
         return oldUrl;
     }
 }
@@ -0,0 +1,77 @@
+package com.portfolio.backend.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies the data half of V14 on databases whose schema is managed by {@code ddl-auto} rather
+ * than Flyway: Hibernate creates {@code resume_contents} but neither copies the bytes still held
+ * in {@code resume_files.data} nor puts ON DELETE CASCADE on the foreign key. Runs once per
+ * startup and does nothing when the legacy column is gone and the key already cascades.
+ */
+@Service
+public class ResumeContentMigrationService {
+
+    // A single DO block, so the copy, the column drop and the key swap commit or fail together
+    private static final String MIGRATE_SQL = """
+            DO $$
+            DECLARE
+                data_type_name TEXT;
+                fk RECORD;
+            BEGIN
+                IF to_regclass('resume_contents') IS NULL THEN
+                    RETURN;
+                END IF;
+
+                SELECT data_type INTO data_type_name
+                FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = 'resume_files' AND column_name = 'data';
+
+                IF data_type_name = 'oid' THEN
+                    INSERT INTO resume_contents (resume_id, data)
+                    SELECT id, data FROM resume_files WHERE data IS NOT NULL
+                    ON CONFLICT (resume_id) DO NOTHING;
+                ELSIF data_type_name = 'bytea' THEN
+                    INSERT INTO resume_contents (resume_id, data)
+                    SELECT id, lo_from_bytea(0, data) FROM resume_files WHERE data IS NOT NULL
+                    ON CONFLICT (resume_id) DO NOTHING;
+                END IF;
+
+                IF data_type_name IS NOT NULL THEN
+                    ALTER TABLE resume_files DROP COLUMN data;
+                    RAISE NOTICE 'Moved resume_files.data into resume_contents';
+                END IF;
+
+                FOR fk IN
+                    SELECT conname FROM pg_constraint
+                    WHERE conrelid = 'resume_contents'::regclass AND contype = 'f' AND confdeltype <> 'c'
+                LOOP
+                    EXECUTE format('ALTER TABLE resume_contents DROP CONSTRAINT %I', fk.conname);
+                END LOOP;
+
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'resume_contents'::regclass AND contype = 'f') THEN
+                    ALTER TABLE resume_contents ADD CONSTRAINT fk_resume_contents_resume
+                        FOREIGN KEY (resume_id) REFERENCES resume_files(id) ON DELETE CASCADE;
+                END IF;
+            END $$
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResumeContentMigrationService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            jdbcTemplate.execute(MIGRATE_SQL);
+        } catch (DataAccessException e) {
+            // Nothing was changed; the next start tries again
+            System.err.println("Resume content migration failed: " + e.getMessage());
+        }
+    }
+}
@@ -3,19 +3,31 @@ package com.portfolio.backend.service;
 import com.portfolio.backend.entity.MediaFile;
 import com.portfolio.backend.entity.MediaType;
 import com.portfolio.backend.entity.Resume;
+import com.portfolio.backend.entity.ResumeContent;
+import com.portfolio.backend.repository.ResumeContentRepository;
 import com.portfolio.backend.repository.ResumeRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.jdbc.BlobProxy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class ResumeService {
 
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
     private final ResumeRepository resumeRepository;
+    private final ResumeContentRepository resumeContentRepository;
     private final MediaService mediaService;
+    private final UploadIngestionService uploadIngestionService;
 
     @Transactional
     public Resume uploadResume(MultipartFile file, String username) throws IOException {
@@ -27,24 +39,65 @@ public class ResumeService {
         // Deactivate all existing resumes
         resumeRepository.deactivateAll();
 
-        // Upload to Cloudinary via MediaService
-        MediaFile media = mediaService.uploadMedia(file, MediaType.CV);
-
-        // Create Resume entity with BLOB data
-        Resume resume = Resume.builder()
-                .fileName(file.getOriginalFilename())
-                .filePath(media.getPublicId())
-                .publicId(media.getPublicId())
-                .url(media.getUrl())
-                .data(file.getBytes()) // Store bytes directly in DB
-                .fileSize(file.getSize())
-                .contentType(file.getContentType())
-                .uploadedBy(username)
-                .isActive(true)
-                .downloadCount(0L)
-                .build();
-
-        return resumeRepository.save(resume);
+        // Spool the part once; local CV storage and the BLOB both read from this copy
+        try (SpooledUpload upload = uploadIngestionService.ingest(file, MediaType.CV)) {
+            MediaFile media = mediaService.uploadMedia(upload, MediaType.CV);
+
+            // Create Resume entity (metadata only)
+            Resume resume = resumeRepository.save(Resume.builder()
+                    .fileName(file.getOriginalFilename())
+                    .filePath(media.getPublicId())
+                    .publicId(media.getPublicId())
+                    .url(media.getUrl())
+                    .fileSize(upload.getSize())
+                    .contentType(upload.getContentType())
+                    .uploadedBy(username)
+                    .isActive(true)
+                    .downloadCount(0L)
+                    .build());
+
+            // Store the PDF in the content table, streamed from the spool file into the large object
+            try (InputStream content = upload.openStream()) {
+                resumeContentRepository.saveAndFlush(ResumeContent.builder()
+                        .resume(resume)
+                        .data(BlobProxy.generateProxy(content, upload.getSize()))
+                        .build());
+            }
+
+            return resume;
+        }
+    }
+
+    public boolean hasContent(UUID resumeId) {
+        return resumeContentRepository.existsById(resumeId);
+    }
+
+    /**
+     * Copies the stored PDF to the given stream with a fixed-size buffer.
+     * Runs in its own transaction because Postgres large objects are only readable inside one.
+     *
+     * @return false if the resume has no BLOB content
+     */
+    @Transactional
+    public boolean streamResumeData(UUID resumeId, OutputStream out) throws IOException {
+        Blob data = resumeContentRepository.findById(resumeId)
+                .map(ResumeContent::getData)
+                .orElse(null);
+        if (data == null) {
+            return false;
+        }
+
+        try (InputStream in = data.getBinaryStream()) {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to read resume content: " + e.getMessage(), e);
+        }
+        out.flush();
+        return true;
     }
 
     public Resume getActiveResumeMetadata() {
@@ -72,14 +125,6 @@ public class ResumeService {
         }
     }
 
-    @Transactional
-    public void incrementDownloadCount() {
-        resumeRepository.findByIsActiveTrue().ifPresent(resume -> {
-            resume.setDownloadCount(resume.getDownloadCount() + 1);
-            resumeRepository.save(resume);
-        });
-    }
-
     public Resume getLatestResumeForUser(String username) {
         return resumeRepository.findTopByUploadedByOrderByUploadedAtDesc(username)
                 .orElseThrow(() -> new RuntimeException("No resume found for user: " + username));
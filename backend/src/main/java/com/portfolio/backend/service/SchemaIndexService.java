@@ -0,0 +1,52 @@
+package com.portfolio.backend.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Creates the indexes from the versioned migrations on startup. Flyway is disabled and
+ * {@code ddl-auto} only creates tables, so without this the queries written against these
+ * indexes would sort and scan. Every statement is idempotent; one that fails is logged and the
+ * rest still run.
+ */
+@Service
+public class SchemaIndexService {
+
+    private static final List<String> INDEXES = List.of(
+            // V17: keyset pagination of the media library on (uploaded_at, id), newest first
+            "CREATE INDEX IF NOT EXISTS ix_media_files_uploaded ON media_files (uploaded_at DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS ix_media_files_type_active_uploaded ON media_files (file_type, active, uploaded_at DESC, id DESC)",
+            // V17: case-insensitive file name prefix search (LIKE 'abc%')
+            "CREATE INDEX IF NOT EXISTS ix_media_files_file_name_prefix ON media_files (lower(file_name) text_pattern_ops)",
+            // V21: keyset pagination of the admin inbox on (created_at, id), newest first
+            "CREATE INDEX IF NOT EXISTS ix_contact_messages_created ON contact_messages (created_at DESC, id DESC)",
+            // V21: unread filter; also serves the dashboard unread count, superseding the V18 index
+            "CREATE INDEX IF NOT EXISTS ix_contact_messages_unread_created ON contact_messages (created_at DESC, id DESC) WHERE is_read = FALSE",
+            "DROP INDEX IF EXISTS ix_contact_messages_unread",
+            // V21: case-insensitive prefix search on sender and subject (LIKE 'abc%')
+            "CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_name_prefix ON contact_messages (lower(sender_name) text_pattern_ops)",
+            "CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_email_prefix ON contact_messages (lower(sender_email) text_pattern_ops)",
+            "CREATE INDEX IF NOT EXISTS ix_contact_messages_subject_prefix ON contact_messages (lower(subject) text_pattern_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaIndexService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        for (String statement : INDEXES) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                System.err.println("Failed to create index (" + statement + "): " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.dto.SearchResultDTO;
+import com.portfolio.backend.entity.BlogPost;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.repository.BlogPostRepository;
+import com.portfolio.backend.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over published blog posts and projects, ranked with BM25.
+ * <p>
+ * Fields are weighted by repeating their term frequencies (title 3x, tags / tech stack 2x, body 1x).
+ * The last query token is also expanded as a prefix over the unstemmed words of the index and
+ * mapped to their terms, so the index can answer type-ahead queries. The index is built on startup and kept current by
+ * {@link BlogService} and {@link ProjectService}, which report their writes; changes are applied
+ * after the surrounding transaction commits.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+
+    // BM25 parameters (the usual defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Prefix matches count a little less than exact ones, and a short prefix cannot fan out to the whole dictionary
+    private static final double PREFIX_WEIGHT = 0.8;
+    private static final int MAX_PREFIX_EXPANSIONS = 20;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final int SNIPPET_LENGTH = 160;
+    // Text kept per document for snippets only; ranking always sees the full content
+    private static final int MAX_STORED_TEXT = 20_000;
+
+    private static final String BLOG_PREFIX = "blog:";
+    private static final String PROJECT_PREFIX = "project:";
+
+    private final BlogPostRepository blogPostRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Document> documents = new HashMap<>();
+    // term -> (document key -> weighted term frequency); sorted for prefix lookups
+    private final TreeMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    // Unstemmed word -> number of documents containing it. A half-typed word is not stemmed like
+    // the full one ("deployin" vs "deploy"), so prefixes are matched here and then stemmed.
+    private final TreeMap<String, Integer> words = new TreeMap<>();
+    private long totalLength;
+
+    // Keys written incrementally while the startup build was loading; the build must not overwrite them
+    private Set<String> touchedDuringBuild;
+
+    @Value("${app.search.max-results:50}")
+    private int maxResults;
+
+    public SearchIndexService(BlogPostRepository blogPostRepository,
+                              ProjectRepository projectRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.blogPostRepository = blogPostRepository;
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Document> loaded;
+        try {
+            loaded = readOnlyTransaction.execute(status -> {
+                List<Document> docs = new ArrayList<>();
+                blogPostRepository.findByIsPublishedTrue(Pageable.unpaged()).forEach(post -> docs.add(blogDocument(post)));
+                projectRepository.findAll().forEach(project -> docs.add(projectDocument(project)));
+                return docs;
+            });
+        } catch (RuntimeException e) {
+            System.err.println("Search index build failed: " + e.getMessage());
+            loaded = List.of();
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Document document : loaded) {
+                if (!touchedDuringBuild.contains(document.key)) {
+                    put(document);
+                }
+            }
+            touchedDuringBuild = null;
+            System.err.println("Search index built: " + documents.size() + " documents, " + postings.size() + " terms");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Indexes (or re-indexes) a post; unpublished posts are removed from the index. */
+    public void indexBlog(BlogPost post) {
+        if (!post.isPublished()) {
+            removeBlog(post.getId());
+            return;
+        }
+        Document document = blogDocument(post);
+        afterCommit(() -> apply(document.key, document));
+    }
+
+    public void removeBlog(UUID id) {
+        afterCommit(() -> apply(BLOG_PREFIX + id, null));
+    }
+
+    public void indexProject(ProjectDTO project) {
+        Document document = projectDocument(project.getId(), project.getTitle(),
+                project.getDescription(), project.getTechStack());
+        afterCommit(() -> apply(document.key, document));
+    }
+
+    public void removeProject(UUID id) {
+        afterCommit(() -> apply(PROJECT_PREFIX + id, null));
+    }
+
+    public List<SearchResultDTO> search(String query, int limit) {
+        List<String> rawTokens = TextAnalyzer.rawTokens(query);
+        if (rawTokens.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, maxResults));
+
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        // Type-ahead: the token still being typed has no trailing separator
+        String prefix = null;
+        String last = rawTokens.get(rawTokens.size() - 1);
+        if (last.length() >= MIN_PREFIX_LENGTH && !query.isEmpty()
+                && Character.isLetterOrDigit(query.charAt(query.length() - 1))) {
+            prefix = last;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / documents.size();
+            Map<String, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Map<String, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    addScores(scores, termPostings, 1.0, avgLength);
+                }
+            }
+
+            if (prefix != null) {
+                // Best expansion per document, so a prefix matching many terms doesn't swamp the exact terms
+                Map<String, Double> prefixScores = new HashMap<>();
+                for (String term : prefixExpansions(prefix, terms)) {
+                    Map<String, Double> expansionScores = new HashMap<>();
+                    addScores(expansionScores, postings.get(term), PREFIX_WEIGHT, avgLength);
+                    expansionScores.forEach((key, score) -> prefixScores.merge(key, score, Math::max));
+                }
+                prefixScores.forEach((key, score) -> scores.merge(key, score, Double::sum));
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .limit(size)
+                    .map(entry -> toResult(documents.get(entry.getKey()), entry.getValue(), rawTokens))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addScores(Map<String, Double> scores, Map<String, Integer> termPostings, double weight, double avgLength) {
+        int n = documents.size();
+        int df = termPostings.size();
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        termPostings.forEach((key, tf) -> {
+            double norm = 1 - B + B * documents.get(key).length / avgLength;
+            double score = weight * idf * (tf * (K1 + 1)) / (tf + K1 * norm);
+            scores.merge(key, score, Double::sum);
+        });
+    }
+
+    // Terms of the indexed words starting with the prefix, minus those already matched exactly
+    private Set<String> prefixExpansions(String prefix, Set<String> exactTerms) {
+        Set<String> expansions = new LinkedHashSet<>();
+        NavigableMap<String, Integer> range = words.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        for (String word : range.keySet()) {
+            String term = TextAnalyzer.stem(word);
+            if (!exactTerms.contains(term) && postings.containsKey(term)) {
+                expansions.add(term);
+                if (expansions.size() >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private SearchResultDTO toResult(Document document, double score, List<String> rawTokens) {
+        return SearchResultDTO.builder()
+                .type(document.type)
+                .id(document.id)
+                .title(document.title)
+                .slug(document.slug)
+                .snippet(snippet(document.text, rawTokens))
+                .score(score)
+                .build();
+    }
+
+    /** Window of the stored text around the first query token found in it, else its opening. */
+    private String snippet(String text, List<String> rawTokens) {
+        if (text.isEmpty()) {
+            return text;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int hit = -1;
+        for (String token : rawTokens) {
+            int index = lower.indexOf(token);
+            if (index >= 0 && (hit < 0 || index < hit)) {
+                hit = index;
+            }
+        }
+        int start = hit < 0 ? 0 : Math.max(0, hit - SNIPPET_LENGTH / 4);
+        if (start > 0) {
+            int space = text.indexOf(' ', start);
+            start = space >= 0 && space < hit ? space + 1 : start;
+        }
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        String window = text.substring(start, end).trim();
+        return (start > 0 ? "…" : "") + window + (end < text.length() ? "…" : "");
+    }
+
+    private void apply(String key, Document document) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringBuild != null) {
+                touchedDuringBuild.add(key);
+            }
+            remove(key);
+            if (document != null) {
+                put(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void put(Document document) {
+        remove(document.key);
+        documents.put(document.key, document);
+        document.termFrequencies.forEach((term, tf) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.key, tf));
+        document.words.forEach(word -> words.merge(word, 1, Integer::sum));
+        totalLength += document.length;
+    }
+
+    // Callers hold the write lock
+    private void remove(String key) {
+        Document existing = documents.remove(key);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.termFrequencies.keySet()) {
+            Map<String, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(key);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        for (String word : existing.words) {
+            words.computeIfPresent(word, (w, count) -> count > 1 ? count - 1 : null);
+        }
+        totalLength -= existing.length;
+    }
+
+    private Document blogDocument(BlogPost post) {
+        // Copied here, while the caller's session is still open
+        Collection<String> tags = post.getTags() != null ? new ArrayList<>(post.getTags()) : List.of();
+
+        Map<String, Integer> tf = new HashMap<>();
+        Set<String> words = new HashSet<>();
+        int length = addField(tf, words, post.getTitle(), TITLE_WEIGHT);
+        length += addField(tf, words, String.join(" ", tags), TAG_WEIGHT);
+        length += addField(tf, words, post.getExcerpt(), BODY_WEIGHT);
+        length += addField(tf, words, post.getContent(), BODY_WEIGHT);
+
+        String text = joinText(post.getExcerpt(), post.getContent());
+        return new Document(BLOG_PREFIX + post.getId(), SearchResultDTO.BLOG, post.getId(), post.getTitle(),
+                post.getSlug(), text, tf, words, length);
+    }
+
+    private Document projectDocument(Project project) {
+        return projectDocument(project.getId(), project.getTitle(), project.getDescription(), project.getTechStack());
+    }
+
+    private Document projectDocument(UUID id, String title, String description, String techStack) {
+        Map<String, Integer> tf = new HashMap<>();
+        Set<String> words = new HashSet<>();
+        int length = addField(tf, words, title, TITLE_WEIGHT);
+        length += addField(tf, words, techStack, TAG_WEIGHT);
+        length += addField(tf, words, description, BODY_WEIGHT);
+
+        return new Document(PROJECT_PREFIX + id, SearchResultDTO.PROJECT, id, title, null,
+                joinText(description, null), tf, words, length);
+    }
+
+    private int addField(Map<String, Integer> tf, Set<String> words, String text, int weight) {
+        List<String> fieldWords = TextAnalyzer.words(text);
+        for (String word : fieldWords) {
+            words.add(word);
+            tf.merge(TextAnalyzer.stem(word), weight, Integer::sum);
+        }
+        return fieldWords.size() * weight;
+    }
+
+    private String joinText(String first, String second) {
+        StringBuilder text = new StringBuilder();
+        if (first != null && !first.isBlank()) {
+            text.append(first.strip());
+        }
+        if (second != null && !second.isBlank()) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(second.strip());
+        }
+        // Collapse markdown/newline runs so snippets read as one line
+        String flat = text.toString().replaceAll("\\s+", " ");
+        return flat.length() > MAX_STORED_TEXT ? flat.substring(0, MAX_STORED_TEXT) : flat;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Document {
+        final String key;
+        final String type;
+        final UUID id;
+        final String title;
+        final String slug;
+        final String text;
+        final Map<String, Integer> termFrequencies;
+        final Set<String> words;
+        final int length;
+
+        Document(String key, String type, UUID id, String title, String slug, String text,
+                 Map<String, Integer> termFrequencies, Set<String> words, int length) {
+            this.key = key;
+            this.type = type;
+            this.id = id;
+            this.title = title;
+            this.slug = slug;
+            this.text = text;
+            this.termFrequencies = termFrequencies;
+            this.words = words;
+            this.length = length;
+        }
+    }
+}
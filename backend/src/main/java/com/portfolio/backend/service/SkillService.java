@@ -1,10 +1,12 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.config.CacheConfig;
 import com.portfolio.backend.dto.SkillDTO;
 import com.portfolio.backend.entity.Skill;
 import com.portfolio.backend.mapper.SkillMapper;
 import com.portfolio.backend.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,7 +18,9 @@ import java.util.stream.Collectors;
 public class SkillService {
     private final SkillRepository repository;
     private final SkillMapper mapper;
+    private final ContentVersionService contentVersionService;
 
+    @Cacheable(CacheConfig.SKILLS)
     public List<SkillDTO> getAllSkills() {
         return repository.findAllByOrderByDisplayOrderAsc().stream()
                 .map(mapper::toDto)
@@ -25,11 +29,14 @@ public class SkillService {
 
     public SkillDTO createSkill(SkillDTO dto) {
         Skill entity = mapper.toEntity(dto);
-        return mapper.toDto(repository.save(entity));
+        SkillDTO saved = mapper.toDto(repository.save(entity));
+        contentVersionService.markChanged(ContentAggregate.SKILLS);
+        return saved;
     }
 
     public void deleteSkill(UUID id) {
         repository.deleteById(id);
+        contentVersionService.markChanged(ContentAggregate.SKILLS);
     }
     
     public String updateSkillIcon(UUID id, String imageUrl) {
@@ -39,6 +46,7 @@ public class SkillService {
         String oldUrl = skill.getIconUrl();
         skill.setIconUrl(imageUrl);
         repository.save(skill);
+        contentVersionService.markChanged(ContentAggregate.SKILLS);
         return oldUrl;
     }
 }
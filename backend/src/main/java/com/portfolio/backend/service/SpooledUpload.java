@@ -0,0 +1,51 @@
+package com.portfolio.backend.service;
+
+import lombok.Getter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An uploaded file that has been copied once to local disk, with its size, SHA-256 and
+ * sniffed content type computed on the way in. Every downstream consumer (Cloudinary,
+ * local CV storage, BLOB storage) reads from this single copy.
+ * Closing it deletes the spooled file.
+ */
+@Getter
+public class SpooledUpload implements AutoCloseable {
+
+    private final Path path;
+    private final long size;
+    private final String sha256;
+    private final String contentType;
+    private final String originalFilename;
+
+    SpooledUpload(Path path, long size, String sha256, String contentType, String originalFilename) {
+        this.path = path;
+        this.size = size;
+        this.sha256 = sha256;
+        this.contentType = contentType;
+        this.originalFilename = originalFilename;
+    }
+
+    public File getFile() {
+        return path.toFile();
+    }
+
+    public InputStream openStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(path.getParent());
+        } catch (IOException e) {
+            System.err.println("Failed to delete spooled upload " + path + ": " + e.getMessage());
+        }
+    }
+}
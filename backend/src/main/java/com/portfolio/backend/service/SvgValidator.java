@@ -0,0 +1,190 @@
+package com.portfolio.backend.service;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Accepts an SVG only if every element and attribute is on an allowlist of static drawing
+ * features: no scripts, event handlers, foreign HTML, animation, external references or
+ * stylesheets, so the file cannot run code when it is opened from its URL.
+ */
+final class SvgValidator {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg";
+    private static final String XLINK_NS = "http://www.w3.org/1999/xlink";
+    private static final String XMLNS_NS = XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+    private static final String XML_NS = XMLConstants.XML_NS_URI;
+
+    private static final Set<String> ELEMENTS = Set.of(
+            "svg", "g", "defs", "title", "desc", "metadata", "symbol", "use", "style", "switch",
+            "path", "rect", "circle", "ellipse", "line", "polyline", "polygon", "image",
+            "text", "tspan", "textPath",
+            "linearGradient", "radialGradient", "stop", "clipPath", "mask", "pattern", "marker",
+            "filter", "feBlend", "feColorMatrix", "feComponentTransfer", "feComposite", "feDropShadow",
+            "feFlood", "feFuncA", "feFuncB", "feFuncG", "feFuncR", "feGaussianBlur", "feMerge",
+            "feMergeNode", "feMorphology", "feOffset");
+
+    // Editor bookkeeping (Inkscape, Illustrator, RDF metadata); browsers treat these as inert
+    private static final Set<String> EDITOR_NAMESPACES = Set.of(
+            "http://www.inkscape.org/namespaces/inkscape",
+            "http://sodipodi.sourceforge.net/DTD/sodipodi-0.dtd",
+            "http://www.w3.org/1999/02/22-rdf-syntax-ns#",
+            "http://creativecommons.org/ns#",
+            "http://purl.org/dc/elements/1.1/",
+            "http://ns.adobe.com/AdobeIllustrator/10.0/",
+            "http://ns.adobe.com/AdobeSVGViewerExtensions/3.0/");
+
+    private static final Pattern URL_REFERENCE = Pattern.compile("url\\(\\s*['\"]?\\s*([^'\")\\s]*)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EMBEDDED_RASTER = Pattern.compile("^data:image/(png|jpeg|gif|webp);base64,", Pattern.CASE_INSENSITIVE);
+
+    private SvgValidator() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the file is not well-formed SVG or uses anything off the allowlist
+     */
+    static void requireSafe(Path file) throws IOException {
+        Document document;
+        try (InputStream in = Files.newInputStream(file)) {
+            document = builder().parse(in);
+        } catch (SAXException e) {
+            throw new IllegalArgumentException("SVG is not well-formed XML");
+        }
+
+        DocumentType doctype = document.getDoctype();
+        if (doctype != null && doctype.getInternalSubset() != null && !doctype.getInternalSubset().isBlank()) {
+            throw rejected("DOCTYPE declarations");
+        }
+        Element root = document.getDocumentElement();
+        if (!SVG_NS.equals(root.getNamespaceURI()) || !"svg".equals(root.getLocalName())) {
+            throw new IllegalArgumentException("Not an SVG document");
+        }
+        checkChildren(document);
+    }
+
+    private static void checkChildren(Node parent) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            switch (node.getNodeType()) {
+                case Node.ELEMENT_NODE -> checkElement((Element) node);
+                case Node.PROCESSING_INSTRUCTION_NODE -> throw rejected("processing instructions");
+                case Node.ENTITY_REFERENCE_NODE -> throw rejected("entity references");
+                default -> {
+                    // Text, comments, CDATA and the DOCTYPE itself are inert
+                }
+            }
+        }
+    }
+
+    private static void checkElement(Element element) {
+        String namespace = element.getNamespaceURI();
+        String name = element.getLocalName();
+        if (SVG_NS.equals(namespace)) {
+            if (!ELEMENTS.contains(name)) {
+                throw rejected("<" + name + "> elements");
+            }
+        } else if (!EDITOR_NAMESPACES.contains(namespace)) {
+            throw rejected("elements outside the SVG namespace");
+        }
+
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            checkAttribute((Attr) attributes.item(i));
+        }
+        if ("style".equals(name) && SVG_NS.equals(namespace)) {
+            checkCss(element.getTextContent());
+        }
+        checkChildren(element);
+    }
+
+    private static void checkAttribute(Attr attribute) {
+        String namespace = attribute.getNamespaceURI();
+        String name = attribute.getLocalName() != null ? attribute.getLocalName() : attribute.getName();
+        String value = attribute.getValue().trim();
+        String lower = value.toLowerCase(Locale.ROOT);
+
+        if (XMLNS_NS.equals(namespace) || XML_NS.equals(namespace)) {
+            return;
+        }
+        if (name.toLowerCase(Locale.ROOT).startsWith("on")) {
+            throw rejected("event handler attributes");
+        }
+        if (lower.contains("javascript:") || lower.contains("vbscript:")) {
+            throw rejected("script URLs");
+        }
+        if ("href".equals(name) && (namespace == null || XLINK_NS.equals(namespace))) {
+            // In-document references, or rasters embedded in <image>
+            if (!value.startsWith("#") && !EMBEDDED_RASTER.matcher(value).find()) {
+                throw rejected("external references");
+            }
+            return;
+        }
+        if (namespace != null && !EDITOR_NAMESPACES.contains(namespace)) {
+            throw rejected("attributes outside the SVG namespace");
+        }
+        if ("style".equals(name)) {
+            checkCss(value);
+        } else {
+            checkUrlReferences(value);
+        }
+    }
+
+    private static void checkCss(String css) {
+        String lower = css.toLowerCase(Locale.ROOT);
+        if (lower.contains("@import") || lower.contains("expression(") || lower.contains("javascript:")) {
+            throw rejected("this stylesheet content");
+        }
+        checkUrlReferences(css);
+    }
+
+    // fill="url(#gradient)" is fine; anything fetched from elsewhere is not
+    private static void checkUrlReferences(String value) {
+        Matcher matcher = URL_REFERENCE.matcher(value);
+        while (matcher.find()) {
+            if (!matcher.group(1).startsWith("#")) {
+                throw rejected("external url() references");
+            }
+        }
+    }
+
+    private static IllegalArgumentException rejected(String what) {
+        return new IllegalArgumentException("SVG files may not contain " + what);
+    }
+
+    private static DocumentBuilder builder() {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            factory.setXIncludeAware(false);
+            factory.setExpandEntityReferences(false);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            // Fail on fatal errors without the default handler's stderr noise
+            builder.setErrorHandler(new DefaultHandler());
+            return builder;
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML parser does not support secure processing", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.portfolio.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenisation for the search index: lower-cases, splits on anything that is not a letter or
+ * digit, drops English stop words and applies a light suffix stemmer (plurals, -ing, -ed, -ly),
+ * so "deploying", "deployed" and "deploys" all index as "deploy".
+ */
+final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "if", "in", "into",
+            "is", "it", "its", "of", "on", "or", "so", "such", "that", "the", "their", "then", "there",
+            "these", "they", "this", "to", "was", "were", "will", "with", "i", "my", "we", "our", "you", "your");
+
+    private TextAnalyzer() {
+    }
+
+    /** Lower-cased tokens before stop-word removal and stemming (used for prefix matching). */
+    static List<String> rawTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** Tokens that are indexed, before stemming. */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String token : rawTokens(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                words.add(token);
+            }
+        }
+        return words;
+    }
+
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            terms.add(stem(word));
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        if (word.length() <= 3 || !Character.isLetter(word.charAt(word.length() - 1))) {
+            return word;
+        }
+        String stem = word;
+        if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        // Only when a vowel is left, so "spring" and "string" keep their ending
+        if (stem.endsWith("ing") && stem.length() > 5 && hasVowel(stem, stem.length() - 3)) {
+            stem = undouble(stem.substring(0, stem.length() - 3));
+        } else if (stem.endsWith("ed") && stem.length() > 4 && hasVowel(stem, stem.length() - 2)) {
+            stem = undouble(stem.substring(0, stem.length() - 2));
+        } else if (stem.endsWith("ly") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+        return stem;
+    }
+
+    private static boolean hasVowel(String word, int end) {
+        for (int i = 0; i < end; i++) {
+            if ("aeiouy".indexOf(word.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "running" -> "runn" -> "run"; keeps "ll", "ss", "zz" as in "install", "pass", "buzz"
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n >= 2 && stem.charAt(n - 1) == stem.charAt(n - 2) && "lsz".indexOf(stem.charAt(n - 1)) < 0
+                && Character.isLetter(stem.charAt(n - 1))) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+}
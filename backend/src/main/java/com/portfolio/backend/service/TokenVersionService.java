@@ -0,0 +1,56 @@
+package com.portfolio.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user, used to reject revoked JWTs without a query per request.
+ * Versions are cached for {@code jwt.token-version-cache.ttl}: revocation is immediate on the
+ * node that performs it and takes effect elsewhere once the entry expires.
+ */
+@Service
+public class TokenVersionService {
+
+    // Cached for unknown (deleted) users, so their tokens are rejected without re-querying
+    private static final int NO_USER = -1;
+
+    private final UserRepository userRepository;
+    private final Cache<String, Integer> versions;
+
+    public TokenVersionService(UserRepository userRepository,
+                               @Value("${jwt.token-version-cache.ttl:PT30S}") Duration ttl,
+                               @Value("${jwt.token-version-cache.max-size:1000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isCurrent(String email, int tokenVersion) {
+        int current = versions.get(email, key -> userRepository.findTokenVersionByEmail(key).orElse(NO_USER));
+        return current != NO_USER && current == tokenVersion;
+    }
+
+    /**
+     * Revokes every token issued to the user so far.
+     */
+    @Transactional
+    public void revokeAll(String email) {
+        userRepository.incrementTokenVersion(email);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.invalidate(email);
+            }
+        });
+    }
+}
@@ -0,0 +1,192 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.entity.MediaType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Single ingestion stage for uploads.
+ * Streams the multipart part to a spool file once, hashing and counting bytes on the fly,
+ * rejects content whose magic bytes do not match the expected media type before copying
+ * the rest, and aborts as soon as the per-type size cap is exceeded. SVGs must also pass
+ * {@link SvgValidator}.
+ */
+@Service
+public class UploadIngestionService {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int SNIFF_LENGTH = 1024;
+
+    @Value("${app.upload.spool-dir:${java.io.tmpdir}}")
+    private String spoolDir;
+
+    @Value("${app.upload.max-image-size:10MB}")
+    private DataSize maxImageSize;
+
+    @Value("${app.upload.max-cv-size:20MB}")
+    private DataSize maxCvSize;
+
+    public SpooledUpload ingest(MultipartFile file, MediaType type) throws IOException {
+        return ingest(file, type, maxSizeFor(type));
+    }
+
+    /**
+     * Ingest without a media type restriction (generic raw uploads); only the largest cap applies.
+     */
+    public SpooledUpload ingest(MultipartFile file) throws IOException {
+        return ingest(file, null, Math.max(maxImageSize.toBytes(), maxCvSize.toBytes()));
+    }
+
+    private SpooledUpload ingest(MultipartFile file, MediaType type, long maxSize) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        // Reject on the declared size before reading a single byte
+        if (file.getSize() > maxSize) {
+            throw tooLarge(type, maxSize);
+        }
+
+        // One directory per upload so the spooled file can keep the original name (Cloudinary use_filename)
+        Path directory = Files.createTempDirectory(Files.createDirectories(Paths.get(spoolDir)), "upload-");
+        Path target = directory.resolve(sanitizeFilename(file.getOriginalFilename()));
+
+        try {
+            MessageDigest digest = sha256();
+            String contentType;
+            long size;
+
+            try (InputStream in = file.getInputStream(); OutputStream out = Files.newOutputStream(target)) {
+                byte[] head = in.readNBytes(SNIFF_LENGTH);
+                contentType = detectContentType(head);
+                if (type != null && !isAllowed(type, contentType)) {
+                    throw new IllegalArgumentException(type == MediaType.CV
+                            ? "Only PDF files are allowed for CV"
+                            : "Only image files are allowed");
+                }
+                digest.update(head);
+                out.write(head);
+                size = head.length;
+
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw tooLarge(type, maxSize);
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            if (contentType == null) {
+                contentType = file.getContentType();
+            }
+            // SVG is markup: only static drawings are accepted, never anything that can run script
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("image/svg")) {
+                SvgValidator.requireSafe(target);
+            }
+            return new SpooledUpload(target, size, HexFormat.of().formatHex(digest.digest()),
+                    contentType, file.getOriginalFilename());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            Files.deleteIfExists(directory);
+            throw e;
+        }
+    }
+
+    private long maxSizeFor(MediaType type) {
+        return type == MediaType.CV ? maxCvSize.toBytes() : maxImageSize.toBytes();
+    }
+
+    private boolean isAllowed(MediaType type, String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        return type == MediaType.CV
+                ? contentType.equals("application/pdf")
+                : contentType.startsWith("image/");
+    }
+
+    /**
+     * Identifies the formats we accept from their leading bytes; returns null for anything else.
+     */
+    static String detectContentType(byte[] head) {
+        if (startsWith(head, 0, "%PDF-".getBytes(StandardCharsets.US_ASCII))) {
+            return "application/pdf";
+        }
+        if (startsWith(head, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return "image/png";
+        }
+        if (startsWith(head, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, 0, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(head, 0, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return "image/gif";
+        }
+        if (startsWith(head, 0, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                && startsWith(head, 8, "WEBP".getBytes(StandardCharsets.US_ASCII))) {
+            return "image/webp";
+        }
+        String text = new String(head, StandardCharsets.UTF_8).stripLeading();
+        if (text.startsWith("\uFEFF")) {
+            text = text.substring(1).stripLeading();
+        }
+        if (text.startsWith("<") && text.contains("<svg")) {
+            return "image/svg+xml";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        if (data.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String sanitizeFilename(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return "upload";
+        }
+        String name = Paths.get(filename).getFileName().toString().replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.startsWith(".")) {
+            name = "upload" + name;
+        }
+        return name.length() > 100 ? name.substring(name.length() - 100) : name;
+    }
+
+    private static IllegalArgumentException tooLarge(MediaType type, long maxSize) {
+        String label = type == null ? "uploads" : type.name();
+        return new IllegalArgumentException("File exceeds the " + DataSize.ofBytes(maxSize).toMegabytes()
+                + " MB limit for " + label);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
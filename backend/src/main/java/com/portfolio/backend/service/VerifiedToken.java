@@ -0,0 +1,52 @@
+package com.portfolio.backend.service;
+
+import io.jsonwebtoken.Claims;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only view of a JWT whose signature and expiry have been checked. Instances are shared
+ * through the verification cache, so they never expose the mutable {@link Claims} map.
+ */
+@Value
+public class VerifiedToken {
+
+    String subject;
+    Instant expiresAt;
+    Map<String, Object> claims;
+
+    static VerifiedToken of(Claims claims) {
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant(),
+                Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+
+    public Object getClaim(String name) {
+        return claims.get(name);
+    }
+
+    /** Authorities issued with the token, empty for tokens that predate role claims. */
+    public List<String> getRoles() {
+        Object roles = claims.get(JwtService.CLAIM_ROLES);
+        if (!(roles instanceof Collection)) {
+            return List.of();
+        }
+        return ((Collection<?>) roles).stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    /** Token version the token was issued under, or null for tokens that predate it. */
+    public Integer getTokenVersion() {
+        Object version = claims.get(JwtService.CLAIM_TOKEN_VERSION);
+        return version instanceof Number ? ((Number) version).intValue() : null;
+    }
+}
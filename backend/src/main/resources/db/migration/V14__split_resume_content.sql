@@ -0,0 +1,31 @@
+-- Move resume binaries out of resume_files so metadata queries never read large-object pages
+CREATE TABLE IF NOT EXISTS resume_contents (
+    resume_id UUID PRIMARY KEY REFERENCES resume_files(id) ON DELETE CASCADE,
+    data OID
+);
+
+DO $$
+DECLARE
+    data_type_name TEXT;
+BEGIN
+    SELECT data_type INTO data_type_name
+    FROM information_schema.columns
+    WHERE table_name = 'resume_files' AND column_name = 'data';
+
+    IF data_type_name = 'oid' THEN
+        INSERT INTO resume_contents (resume_id, data)
+        SELECT id, data FROM resume_files WHERE data IS NOT NULL
+        ON CONFLICT (resume_id) DO NOTHING;
+    ELSIF data_type_name = 'bytea' THEN
+        INSERT INTO resume_contents (resume_id, data)
+        SELECT id, lo_from_bytea(0, data) FROM resume_files WHERE data IS NOT NULL
+        ON CONFLICT (resume_id) DO NOTHING;
+    END IF;
+
+    IF data_type_name IS NOT NULL THEN
+        ALTER TABLE resume_files DROP COLUMN data;
+    END IF;
+END $$;
+
+-- media_files.data was never populated (CVs live on disk, images on Cloudinary)
+ALTER TABLE media_files DROP COLUMN IF EXISTS data;
@@ -0,0 +1,7 @@
+-- Content-addressed deduplication of uploaded media
+ALTER TABLE media_files ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE media_files ADD COLUMN IF NOT EXISTS ref_count INTEGER DEFAULT 1;
+
+UPDATE media_files SET ref_count = 1 WHERE ref_count IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_media_files_content_hash ON media_files (content_hash);
@@ -0,0 +1,13 @@
+-- Remote media deletions, written in the same transaction as the media_files change
+CREATE TABLE IF NOT EXISTS media_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    public_id VARCHAR(255) NOT NULL,
+    resource_type VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS ix_media_outbox_due ON media_outbox (status, next_attempt_at);
@@ -0,0 +1,6 @@
+-- Keyset pagination of the media library on (uploaded_at, id), newest first
+CREATE INDEX IF NOT EXISTS ix_media_files_uploaded ON media_files (uploaded_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_media_files_type_active_uploaded ON media_files (file_type, active, uploaded_at DESC, id DESC);
+
+-- Case-insensitive file name prefix search (LIKE 'abc%')
+CREATE INDEX IF NOT EXISTS ix_media_files_file_name_prefix ON media_files (lower(file_name) text_pattern_ops);
@@ -0,0 +1,2 @@
+-- Dashboard unread count only touches unread rows
+CREATE INDEX IF NOT EXISTS ix_contact_messages_unread ON contact_messages (created_at) WHERE is_read = FALSE;
@@ -0,0 +1,2 @@
+-- Incremented to revoke every JWT issued to the user (tokens carry it as the "tv" claim)
+ALTER TABLE users_admin ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Near-duplicate submissions are collapsed into a counter on the original message
+ALTER TABLE contact_messages ADD COLUMN IF NOT EXISTS duplicate_count INTEGER NOT NULL DEFAULT 0;
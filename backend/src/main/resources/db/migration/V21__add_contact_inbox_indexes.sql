@@ -0,0 +1,11 @@
+-- Keyset pagination of the admin inbox on (created_at, id), newest first
+CREATE INDEX IF NOT EXISTS ix_contact_messages_created ON contact_messages (created_at DESC, id DESC);
+
+-- Unread filter; also serves the dashboard unread count, so it replaces the V18 index
+CREATE INDEX IF NOT EXISTS ix_contact_messages_unread_created ON contact_messages (created_at DESC, id DESC) WHERE is_read = FALSE;
+DROP INDEX IF EXISTS ix_contact_messages_unread;
+
+-- Case-insensitive prefix search on sender and subject (LIKE 'abc%')
+CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_name_prefix ON contact_messages (lower(sender_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_email_prefix ON contact_messages (lower(sender_email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_contact_messages_subject_prefix ON contact_messages (lower(subject) text_pattern_ops);
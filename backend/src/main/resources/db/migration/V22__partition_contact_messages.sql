@@ -0,0 +1,53 @@
+-- Monthly range partitions on created_at, so retention is a DETACH/DROP instead of a DELETE and
+-- time-bounded queries only touch recent partitions. The primary key must include the partition
+-- key, hence (id, created_at). ContactPartitionMaintenanceService keeps future partitions created
+-- and removes expired ones.
+
+UPDATE contact_messages SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+ALTER TABLE contact_messages RENAME TO contact_messages_legacy;
+
+CREATE TABLE contact_messages (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    sender_name VARCHAR(255) NOT NULL,
+    sender_email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    message TEXT NOT NULL,
+    ip_address VARCHAR(50),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    is_read BOOLEAN DEFAULT FALSE,
+    duplicate_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- One partition per month from the oldest message through three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM contact_messages_legacy), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF contact_messages FOR VALUES FROM (%L) TO (%L)',
+            'contact_messages_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Catches rows outside every monthly partition (e.g. after a missed maintenance run) instead of failing the insert
+CREATE TABLE IF NOT EXISTS contact_messages_default PARTITION OF contact_messages DEFAULT;
+
+INSERT INTO contact_messages (id, sender_name, sender_email, subject, message, ip_address, created_at, is_read, duplicate_count)
+SELECT id, sender_name, sender_email, subject, message, ip_address, created_at, is_read, duplicate_count
+FROM contact_messages_legacy;
+
+DROP TABLE contact_messages_legacy;
+
+-- Indexes on the parent are created on every current and future partition
+CREATE INDEX IF NOT EXISTS ix_contact_messages_created ON contact_messages (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_contact_messages_unread_created ON contact_messages (created_at DESC, id DESC) WHERE is_read = FALSE;
+CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_name_prefix ON contact_messages (lower(sender_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_contact_messages_sender_email_prefix ON contact_messages (lower(sender_email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS ix_contact_messages_subject_prefix ON contact_messages (lower(subject) text_pattern_ops);
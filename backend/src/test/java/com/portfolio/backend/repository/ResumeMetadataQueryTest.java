@@ -0,0 +1,205 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.Resume;
+import com.portfolio.backend.entity.ResumeContent;
+import org.hibernate.engine.jdbc.BlobProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Resume metadata lives in resume_files and the file bytes in resume_contents. Queries that
+ * list or pick resumes must not read the bytes, which is checked by counting what the JDBC
+ * driver hands back while three 1 MB CVs are stored.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(ResumeMetadataQueryTest.ByteCountingConfig.class)
+class ResumeMetadataQueryTest {
+
+    private static final int CV_SIZE = 1024 * 1024;
+    // Metadata for three rows is a few hundred bytes; one CV alone would be a megabyte
+    private static final long METADATA_BUDGET = 16 * 1024;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeContentRepository resumeContentRepository;
+
+    @Autowired
+    private ByteCountingDataSource reads;
+
+    private UUID activeId;
+
+    @BeforeEach
+    void storeResumes() {
+        for (int i = 0; i < 3; i++) {
+            Resume resume = entityManager.persist(Resume.builder()
+                    .fileName("cv-" + i + ".pdf")
+                    .filePath("resume_files/cv-" + i + ".pdf")
+                    .fileSize((long) CV_SIZE)
+                    .contentType("application/pdf")
+                    .isActive(i == 2)
+                    .build());
+            entityManager.persist(ResumeContent.builder()
+                    .resume(resume)
+                    .data(BlobProxy.generateProxy(new byte[CV_SIZE]))
+                    .build());
+            if (i == 2) {
+                activeId = resume.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        reads.reset();
+    }
+
+    @Test
+    void metadataQueriesDoNotReadFileBytes() {
+        assertEquals(3, resumeRepository.findAll().size());
+        assertTrue(resumeRepository.findByIsActiveTrue().isPresent());
+        assertTrue(resumeRepository.findTopByIsActiveTrueOrderByUploadedAtDesc().isPresent());
+        assertTrue(resumeRepository.findById(activeId).isPresent());
+
+        assertTrue(reads.bytesRead() < METADATA_BUDGET,
+                "metadata queries read " + reads.bytesRead() + " bytes");
+        for (String sql : reads.statements()) {
+            assertFalse(sql.toLowerCase(Locale.ROOT).contains("resume_contents"), "metadata query touched the content table: " + sql);
+        }
+    }
+
+    @Test
+    void contentQueryReadsFileBytes() throws SQLException {
+        // Guards the counter itself: loading the content must show up as a megabyte read
+        ResumeContent content = resumeContentRepository.findById(activeId).orElseThrow();
+        content.getData().getBytes(1, CV_SIZE);
+
+        assertTrue(reads.bytesRead() >= CV_SIZE, "content query read only " + reads.bytesRead() + " bytes");
+    }
+
+    @TestConfiguration
+    static class ByteCountingConfig {
+
+        @Bean
+        static ByteCountingDataSource byteCountingDataSource() {
+            return new ByteCountingDataSource();
+        }
+    }
+
+    /**
+     * Wraps the test DataSource so that every value a ResultSet returns is measured. Statements
+     * and result sets are proxied on the way out; everything else passes through untouched.
+     */
+    static class ByteCountingDataSource implements BeanPostProcessor {
+
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        long bytesRead() {
+            return bytesRead.get();
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+
+        void reset() {
+            bytesRead.set(0);
+            statements.clear();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource ? wrap(bean) : bean;
+        }
+
+        private Object wrap(Object target) {
+            // Driver-internal interfaces that are not public cannot be proxied from here
+            Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfaces(target))
+                    .filter(type -> Modifier.isPublic(type.getModifiers()))
+                    .toArray(Class<?>[]::new);
+            return Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (target instanceof Connection && method.getName().startsWith("prepare") && args[0] instanceof String sql) {
+                    statements.add(sql);
+                }
+                if (target instanceof ResultSet && method.getName().startsWith("get")) {
+                    return count(result);
+                }
+                if (result instanceof Connection || result instanceof Statement || result instanceof ResultSet) {
+                    return wrap(result);
+                }
+                return result;
+            });
+        }
+
+        private Object count(Object value) throws SQLException {
+            if (value instanceof byte[] bytes) {
+                bytesRead.addAndGet(bytes.length);
+            } else if (value instanceof String text) {
+                bytesRead.addAndGet(text.length());
+            } else if (value instanceof Blob blob) {
+                bytesRead.addAndGet(blob.length());
+            } else if (value instanceof InputStream stream) {
+                return new FilterInputStream(stream) {
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        if (b >= 0) {
+                            bytesRead.incrementAndGet();
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int n = super.read(buffer, offset, length);
+                        if (n > 0) {
+                            bytesRead.addAndGet(n);
+                        }
+                        return n;
+                    }
+                };
+            }
+            return value;
+        }
+    }
+}
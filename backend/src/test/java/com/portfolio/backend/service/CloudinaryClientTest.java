@@ -0,0 +1,198 @@
+package com.portfolio.backend.service;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.portfolio.backend.exception.ServiceBusyException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs {@link CloudinaryClient} against a local HTTP stand-in for Cloudinary that answers with
+ * scripted status codes, so retries, error classification and the circuit breaker are exercised
+ * through the real SDK.
+ */
+class CloudinaryClientTest {
+
+    private static final String OK = "{\"result\":\"ok\"}";
+
+    private final ConcurrentLinkedQueue<Object[]> script = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private Cloudinary cloudinary;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            requests.incrementAndGet();
+            Object[] next = script.poll();
+            if (next != null && next.length > 2) {
+                sleep((long) next[2]);
+            }
+            int status = next != null ? (int) next[0] : 200;
+            byte[] response = (next != null ? (String) next[1] : OK).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        cloudinary = new Cloudinary(ObjectUtils.asMap(
+                "cloud_name", "demo",
+                "api_key", "key",
+                "api_secret", "secret",
+                "upload_prefix", "http://127.0.0.1:" + server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void retriesServerErrorsOnIdempotentCalls() throws IOException {
+        CloudinaryClient client = client(3, 5);
+        respond(503, error("Service Unavailable"));
+        respond(500, error("Internal error"));
+
+        Map result = client.destroy("photo", ObjectUtils.emptyMap());
+
+        assertEquals("ok", result.get("result"));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void doesNotRetryServerErrorsOnUpload() throws IOException {
+        CloudinaryClient client = client(3, 5);
+        respond(500, error("Internal error"));
+
+        assertThrows(RuntimeException.class, () -> client.upload(tempFile(), ObjectUtils.emptyMap()));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void retriesRateLimitedUpload() throws IOException {
+        CloudinaryClient client = client(3, 5);
+        respond(420, error("Rate limit exceeded"));
+
+        Map result = client.upload(tempFile(), ObjectUtils.emptyMap());
+
+        assertEquals("ok", result.get("result"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void serverErrorsOpenTheBreaker() {
+        CloudinaryClient client = client(1, 3);
+        for (int i = 0; i < 3; i++) {
+            respond(500, error("Internal error"));
+            assertThrows(RuntimeException.class, () -> client.destroy("photo", ObjectUtils.emptyMap()));
+        }
+
+        assertThrows(ServiceBusyException.class, () -> client.destroy("photo", ObjectUtils.emptyMap()));
+        assertEquals(3, requests.get(), "an open breaker must not reach the server");
+    }
+
+    @Test
+    void clientErrorsAreNeitherRetriedNorCountedAsFailures() throws IOException {
+        CloudinaryClient client = client(3, 2);
+        for (int i = 0; i < 5; i++) {
+            respond(400, error("Invalid public id"));
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> client.destroy("photo", ObjectUtils.emptyMap()));
+            assertEquals("Invalid public id", e.getMessage());
+        }
+        assertEquals(5, requests.get());
+
+        assertEquals("ok", client.destroy("photo", ObjectUtils.emptyMap()).get("result"));
+    }
+
+    @Test
+    void adminApiServerErrorsAreRetried() throws IOException {
+        CloudinaryClient client = client(3, 5);
+        respond(500, error("Internal error"));
+        respond(200, "{\"deleted\":{\"photo\":\"deleted\"}}");
+
+        Map result = client.deleteResources(List.of("photo"), ObjectUtils.emptyMap());
+
+        assertEquals(Map.of("photo", "deleted"), result.get("deleted"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void callRejectedBeforeReachingCloudinaryDoesNotWedgeTheHalfOpenBreaker() throws Exception {
+        CloudinaryClient client = client(1, 1);
+        // Slower than the client's 1s timeout
+        script.add(new Object[]{200, OK, 1500L});
+        assertThrows(IOException.class, () -> client.destroy("photo", ObjectUtils.emptyMap()));
+        assertThrows(ServiceBusyException.class, () -> client.destroy("photo", ObjectUtils.emptyMap()));
+
+        Thread.sleep(1100);
+        // The first call after the open period is interrupted while waiting for a bulkhead slot
+        Thread.currentThread().interrupt();
+        assertThrows(IOException.class, () -> client.destroy("photo", ObjectUtils.emptyMap()));
+        Thread.interrupted();
+
+        assertEquals("ok", client.destroy("photo", ObjectUtils.emptyMap()).get("result"));
+    }
+
+    private CloudinaryClient client(int maxAttempts, int failureThreshold) {
+        CloudinaryClient client = new CloudinaryClient(cloudinary, new SimpleMeterRegistry(),
+                2, failureThreshold, 1, 1.0, 10);
+        ReflectionTestUtils.setField(client, "bulkheadWaitMs", 200L);
+        ReflectionTestUtils.setField(client, "timeoutSeconds", 1);
+        ReflectionTestUtils.setField(client, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(client, "backoffBaseMs", 1L);
+        ReflectionTestUtils.setField(client, "backoffMaxMs", 5L);
+        return client;
+    }
+
+    private void respond(int status, String body) {
+        script.add(new Object[]{status, body});
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String error(String message) {
+        return "{\"error\":{\"message\":\"" + message + "\"}}";
+    }
+
+    private File tempFile() throws IOException {
+        File file = Files.createTempFile("cloudinary-test", ".png").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), new byte[]{1, 2, 3});
+        return file;
+    }
+}
@@ -0,0 +1,144 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.entity.ContactMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContactFingerprintServiceTest {
+
+    private static final String SUBJECT = "Project enquiry";
+    private static final String BODY = "Hello, I would like to hire you for a React and Spring Boot project starting "
+            + "next month. We are a small team building an internal dashboard for our warehouse staff, with a Java "
+            + "backend and a PostgreSQL database. The first milestone is a read-only stock overview, followed by "
+            + "order tracking and reporting. Please get back to me with your availability and rates.";
+
+    private final List<Object[]> flushed = new ArrayList<>();
+    private ContactFingerprintService service;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                flushed.addAll(batchArgs);
+                int[] updated = new int[batchArgs.size()];
+                Arrays.fill(updated, 1);
+                return updated;
+            }
+        };
+        service = new ContactFingerprintService(jdbcTemplate, Duration.ofHours(1), 1_000);
+    }
+
+    @Test
+    void simHashIgnoresCaseAndPunctuation() {
+        long hash = ContactFingerprintService.simHash(BODY);
+
+        assertEquals(Long.valueOf(hash), Long.valueOf(ContactFingerprintService.simHash(BODY.toUpperCase())));
+        assertEquals(Long.valueOf(hash), Long.valueOf(ContactFingerprintService.simHash(BODY.replace(",", " ;").replace(".", "!"))));
+    }
+
+    @Test
+    void simHashKeepsLightEditsCloseAndUnrelatedTextFar() {
+        long hash = ContactFingerprintService.simHash(SUBJECT + "\n" + BODY);
+
+        assertTrue(distance(hash, ContactFingerprintService.simHash(SUBJECT + "\n" + BODY.replace("Hello", "Hi"))) <= 3);
+        assertTrue(distance(hash, ContactFingerprintService.simHash(SUBJECT + "\n" + BODY + " Regards")) <= 3);
+        assertTrue(distance(hash, ContactFingerprintService.simHash("Buy cheap watches now at our online store, best prices guaranteed")) > 16);
+    }
+
+    @Test
+    void exactRepeatFromTheSameSenderIsADuplicateOfTheFirst() {
+        ContactMessage first = message("a@example.com", "10.0.0.1", BODY);
+        ContactMessage second = message("a@example.com", "10.0.0.1", BODY);
+        ContactMessage third = message("A@Example.com ", "10.0.0.2", BODY);
+
+        assertNull(service.findDuplicate(first));
+        assertEquals(first.getId(), service.findDuplicate(second));
+        // Email is normalised before indexing
+        assertEquals(first.getId(), service.findDuplicate(third));
+    }
+
+    @Test
+    void lightlyEditedRepeatIsFoundThroughASharedBand() {
+        ContactMessage first = message("a@example.com", "10.0.0.1", BODY);
+        ContactMessage edited = message("a@example.com", "10.0.0.1", BODY.replace("rates", "rate"));
+        int bits = distance(ContactFingerprintService.simHash(SUBJECT + "\n" + first.getMessage()),
+                ContactFingerprintService.simHash(SUBJECT + "\n" + edited.getMessage()));
+        // Different fingerprints, so some bands differ, but within the distance at least one matches
+        assertTrue(bits > 0 && bits <= 3, "distance " + bits);
+
+        assertNull(service.findDuplicate(first));
+        assertEquals(first.getId(), service.findDuplicate(edited));
+    }
+
+    @Test
+    void sameIpCatchesRepeatsUnderDifferentEmails() {
+        ContactMessage first = message("a@example.com", "10.0.0.1", BODY);
+        ContactMessage second = message("b@example.com", "10.0.0.1", BODY);
+
+        assertNull(service.findDuplicate(first));
+        assertEquals(first.getId(), service.findDuplicate(second));
+    }
+
+    @Test
+    void sameTextFromAnotherSenderOrUnrelatedTextIsNotADuplicate() {
+        assertNull(service.findDuplicate(message("a@example.com", "10.0.0.1", BODY)));
+
+        assertNull(service.findDuplicate(message("b@example.com", "10.0.0.2", BODY)));
+        assertNull(service.findDuplicate(message("a@example.com", "10.0.0.1",
+                "Buy cheap watches now at our online store, best prices guaranteed")));
+    }
+
+    @Test
+    void forgottenMessageNoLongerAbsorbsRepeats() {
+        ContactMessage first = message("a@example.com", "10.0.0.1", BODY);
+        assertNull(service.findDuplicate(first));
+
+        service.forget(first);
+
+        ContactMessage retry = message("a@example.com", "10.0.0.1", BODY);
+        assertNull(service.findDuplicate(retry));
+        assertEquals(retry.getId(), service.findDuplicate(message("a@example.com", "10.0.0.1", BODY)));
+    }
+
+    @Test
+    void flushAddsEachDuplicateCountOnce() {
+        ContactMessage first = message("a@example.com", "10.0.0.1", BODY);
+        service.findDuplicate(first);
+        service.findDuplicate(message("a@example.com", "10.0.0.1", BODY));
+        service.findDuplicate(message("a@example.com", "10.0.0.1", BODY));
+
+        service.flush();
+        service.flush();
+
+        assertEquals(1, flushed.size());
+        assertEquals(Long.valueOf(2), flushed.get(0)[0]);
+        assertEquals(first.getId(), flushed.get(0)[1]);
+    }
+
+    private static ContactMessage message(String email, String ip, String body) {
+        return ContactMessage.builder()
+                .id(UUID.randomUUID())
+                .senderName("Sender")
+                .senderEmail(email)
+                .ipAddress(ip)
+                .subject(SUBJECT)
+                .message(body)
+                .build();
+    }
+
+    private static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,143 @@
+package com.portfolio.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownloadCounterServiceTest {
+
+    private static final int THREADS = 16;
+    private static final int DOWNLOADS_PER_THREAD = 50_000;
+
+    @Test
+    void concurrentDownloadsAreCountedExactlyOnce() throws Exception {
+        FakeJdbcTemplate database = new FakeJdbcTemplate(3);
+        DownloadCounterService service = new DownloadCounterService(database);
+        UUID[] resumes = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < DOWNLOADS_PER_THREAD; i++) {
+                        service.recordDownload(resumes[(offset + i) % resumes.length]);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // Flush continuously while the downloads are being recorded
+        AtomicBoolean flushing = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (flushing.get()) {
+                service.flush();
+            }
+        });
+        flusher.start();
+
+        start.countDown();
+        done.await();
+        flushing.set(false);
+        flusher.join();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        // The final flush must not be one of the rejected batches, or its deltas would stay pending
+        database.failEvery = 0;
+        service.flushOnShutdown();
+
+        long expectedTotal = (long) THREADS * DOWNLOADS_PER_THREAD;
+        assertEquals(expectedTotal, database.rows.values().stream().mapToLong(Long::longValue).sum());
+        for (int r = 0; r < resumes.length; r++) {
+            assertEquals(Long.valueOf(expectedFor(r, resumes.length)), database.rows.get(resumes[r]), "downloads of resume " + r);
+        }
+        assertEquals(0, service.getPendingCount());
+        assertTrue(database.failures.get() > 0, "the stress run should have exercised failed flushes");
+    }
+
+    @Test
+    void failedFlushKeepsDownloadsPending() {
+        FakeJdbcTemplate database = new FakeJdbcTemplate(1);
+        DownloadCounterService service = new DownloadCounterService(database);
+        UUID resume = UUID.randomUUID();
+
+        service.recordDownload(resume);
+        service.recordDownload(resume);
+        service.flush();
+
+        assertEquals(2, service.getPendingCount());
+        assertNull(database.rows.get(resume));
+
+        database.failEvery = 0;
+        service.flush();
+
+        assertEquals(0, service.getPendingCount());
+        assertEquals(Long.valueOf(2), database.rows.get(resume));
+    }
+
+    private static long expectedFor(int resume, int resumeCount) {
+        long count = 0;
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < DOWNLOADS_PER_THREAD; i++) {
+                if ((t + i) % resumeCount == resume) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Applies the relative UPDATE to an in-memory table, rejecting every n-th batch the way a
+     * dropped connection would: atomically, with nothing written.
+     */
+    private static final class FakeJdbcTemplate extends JdbcTemplate {
+        private final Map<UUID, Long> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile int failEvery;
+
+        FakeJdbcTemplate(int failEvery) {
+            this.failEvery = failEvery;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            int call = calls.incrementAndGet();
+            if (failEvery > 0 && call % failEvery == 0) {
+                failures.incrementAndGet();
+                throw new DataAccessResourceFailureException("connection reset");
+            }
+            int[] updated = new int[batchArgs.size()];
+            for (int i = 0; i < batchArgs.size(); i++) {
+                Object[] args = batchArgs.get(i);
+                rows.merge((UUID) args[1], (Long) args[0], Long::sum);
+                updated[i] = 1;
+            }
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.portfolio.backend.service;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final UserDetails admin = new User("admin@example.com", "n/a",
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheMaxSize", 1_000L);
+        jwtService.init();
+    }
+
+    @Test
+    void verifyReturnsClaimsAndCachesThem() {
+        String token = jwtService.generateToken(admin, 3);
+
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        assertEquals("admin@example.com", first.getSubject());
+        assertEquals(Integer.valueOf(3), first.getTokenVersion());
+        assertSame(first, second);
+        assertTrue(jwtService.isTokenValid(token, admin));
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenAfterTheOriginalWasCached() {
+        String token = jwtService.generateToken(admin, 0);
+        jwtService.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + flipFirstChar(parts[2]);
+
+        assertThrows(JwtException.class, () -> jwtService.verify(forged));
+        assertFalse(jwtService.isTokenValid(forged, admin));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", -1_000L);
+        String token = jwtService.generateToken(admin, 0);
+
+        assertThrows(JwtException.class, () -> jwtService.verify(token));
+        assertFalse(jwtService.isTokenValid(token, admin));
+    }
+
+    // The last base64url character of a signature can carry only padding bits, the first cannot
+    private static String flipFirstChar(String value) {
+        return (value.charAt(0) == 'A' ? 'B' : 'A') + value.substring(1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.portfolio.backend.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Timing comparison of per-request JWT verification, excluded from the default test run (see the
+ * surefire configuration in the pom). The baseline is the pre-cache code path: the filter read the
+ * username and then called isTokenValid, which parsed the token twice more, and every parse decoded
+ * the secret, built a new key and a new parser.
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 50_000;
+
+    private final UserDetails admin = new User("admin@example.com", "n/a",
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+    @Test
+    void cachedVerificationAgainstParsingPerRequest() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheMaxSize", 1_000L);
+        jwtService.init();
+        String token = jwtService.generateToken(admin, 0);
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            sink += baselinePerRequest(token);
+            sink += cachedPerRequest(jwtService, token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            sink += baselinePerRequest(token);
+        }
+        long baseline = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            sink += cachedPerRequest(jwtService, token);
+        }
+        long cached = System.nanoTime() - start;
+
+        System.err.println("JWT per request: baseline " + baseline / MEASURED_REQUESTS + " ns, cached verify "
+                + cached / MEASURED_REQUESTS + " ns (sink " + sink + ")");
+        assertTrue(cached < baseline, "cached verification took " + cached + " ns against " + baseline + " ns");
+    }
+
+    private long baselinePerRequest(String token) {
+        String subject = parse(token).getSubject();
+        // isTokenValid: username again, then the expiry
+        boolean valid = parse(token).getSubject().equals(admin.getUsername())
+                && !parse(token).getExpiration().before(new Date());
+        return subject.length() + (valid ? 1 : 0);
+    }
+
+    private static Claims parse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    // What JwtAuthenticationFilter does now: one verify, then reads from the result
+    private static long cachedPerRequest(JwtService jwtService, String token) {
+        VerifiedToken verified = jwtService.verify(token);
+        return verified.getSubject().length() + verified.getTokenVersion() + (verified.isExpired() ? 0 : 1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.entity.ResumeContent;
+import com.portfolio.backend.repository.ResumeContentRepository;
+import org.hibernate.engine.jdbc.BlobProxy;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A 20 MB CV must be served with constant memory: the bytes go from the BLOB stream to the
+ * response through a fixed buffer and are never collected into an array.
+ */
+class ResumeStreamingTest {
+
+    private static final long CV_SIZE = 20L * 1024 * 1024;
+    // Generous for buffers and bookkeeping, but far below one copy of the file
+    private static final long MAX_ALLOCATED = 2L * 1024 * 1024;
+
+    @Test
+    void streamsTwentyMegabyteCvWithConstantMemory() throws Exception {
+        UUID resumeId = UUID.randomUUID();
+        ResumeContent content = ResumeContent.builder()
+                .resumeId(resumeId)
+                .data(BlobProxy.generateProxy(new PatternInputStream(CV_SIZE), CV_SIZE))
+                .build();
+        ResumeService service = new ResumeService(null, repositoryReturning(content), null, null);
+        CountingOutputStream response = new CountingOutputStream();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+
+        boolean found = service.streamResumeData(resumeId, response);
+
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(found);
+        assertEquals(CV_SIZE, response.count);
+        assertEquals(PatternInputStream.checksum(CV_SIZE), response.checksum, "bytes must arrive intact and in order");
+        assertTrue(allocated < MAX_ALLOCATED,
+                "streaming a " + CV_SIZE + " byte CV allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void reportsMissingContent() throws Exception {
+        ResumeService service = new ResumeService(null, repositoryReturning(null), null, null);
+
+        assertEquals(false, service.streamResumeData(UUID.randomUUID(), new CountingOutputStream()));
+    }
+
+    private ResumeContentRepository repositoryReturning(ResumeContent content) {
+        return (ResumeContentRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ResumeContentRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.ofNullable(content);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /** Deterministic byte sequence of any length, produced without buffering it. */
+    private static final class PatternInputStream extends InputStream {
+        private final long length;
+        private long position;
+
+        PatternInputStream(long length) {
+            this.length = length;
+        }
+
+        static byte at(long position) {
+            return (byte) (position * 31 + (position >>> 8));
+        }
+
+        static long checksum(long length) {
+            long sum = 0;
+            for (long i = 0; i < length; i++) {
+                sum = sum * 131 + (at(i) & 0xff);
+            }
+            return sum;
+        }
+
+        @Override
+        public int read() {
+            return position < length ? at(position++) & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (position >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(count, length - position);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = at(position++);
+            }
+            return n;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+        private long checksum;
+
+        @Override
+        public void write(int b) {
+            count++;
+            checksum = checksum * 131 + (b & 0xff);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                checksum = checksum * 131 + (buffer[offset + i] & 0xff);
+            }
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.dto.SearchResultDTO;
+import com.portfolio.backend.entity.BlogPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexServiceTest {
+
+    private SearchIndexService searchIndex;
+
+    // Writes outside a transaction are applied immediately, so no repositories are needed
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndexService(null, null, null);
+        ReflectionTestUtils.setField(searchIndex, "maxResults", 50);
+    }
+
+    @Test
+    void titleMatchOutranksBodyMatch() {
+        UUID inTitle = project("Kubernetes operator", "Reconciles custom resources.", "Go");
+        UUID inBody = project("Home lab", "A small cluster running Kubernetes on three boards.", "Ansible");
+
+        List<SearchResultDTO> results = searchIndex.search("kubernetes ", 10);
+
+        assertEquals(List.of(inTitle, inBody), ids(results));
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+    }
+
+    @Test
+    void queryAndDocumentAreStemmedAlike() {
+        UUID id = blog("Deploying Spring Boot", "We deployed it twice.", Set.of("devops"));
+
+        assertEquals(List.of(id), ids(searchIndex.search("deploys ", 10)));
+        assertEquals(List.of(id), ids(searchIndex.search("spring ", 10)));
+    }
+
+    @Test
+    void lastTokenIsExpandedAsAPrefixWhileTyping() {
+        UUID id = project("Cluster tooling", "Operators for Kubernetes, deploying nightly.", "Go");
+
+        assertEquals(List.of(id), ids(searchIndex.search("kube", 10)));
+        // Matched against the unstemmed word: "deployin" is not a prefix of the term "deploy"
+        assertEquals(List.of(id), ids(searchIndex.search("deployin", 10)));
+        // A finished token (trailing separator) must match exactly
+        assertEquals(List.of(), ids(searchIndex.search("kube ", 10)));
+        // Single characters do not fan out to the whole dictionary
+        assertEquals(List.of(), ids(searchIndex.search("k", 10)));
+    }
+
+    @Test
+    void exactMatchOutranksPrefixMatch() {
+        UUID exact = project("Go tooling", "A deploy tool.", null);
+        UUID prefix = project("Rust tooling", "A deployment dashboard.", null);
+
+        assertEquals(List.of(exact, prefix), ids(searchIndex.search("deploy", 10)));
+    }
+
+    @Test
+    void unpublishedAndRemovedDocumentsAreNotFound() {
+        UUID draft = UUID.randomUUID();
+        searchIndex.indexBlog(BlogPost.builder().id(draft).title("Draft about caching").isPublished(false).build());
+        UUID project = project("Caching layer", "Caffeine in front of Postgres.", "Java");
+
+        assertEquals(List.of(project), ids(searchIndex.search("caching ", 10)));
+
+        searchIndex.removeProject(project);
+
+        assertEquals(List.of(), ids(searchIndex.search("caching ", 10)));
+    }
+
+    @Test
+    void stopWordsAloneMatchNothingAndLimitIsApplied() {
+        for (int i = 0; i < 5; i++) {
+            project("Widget " + i, "The widget.", null);
+        }
+
+        assertEquals(List.of(), ids(searchIndex.search("the ", 10)));
+        assertEquals(3, searchIndex.search("widget ", 3).size());
+    }
+
+    private UUID project(String title, String description, String techStack) {
+        ProjectDTO project = new ProjectDTO();
+        project.setId(UUID.randomUUID());
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setTechStack(techStack);
+        searchIndex.indexProject(project);
+        return project.getId();
+    }
+
+    private UUID blog(String title, String content, Set<String> tags) {
+        UUID id = UUID.randomUUID();
+        searchIndex.indexBlog(BlogPost.builder()
+                .id(id)
+                .title(title)
+                .slug(title.toLowerCase().replace(' ', '-'))
+                .content(content)
+                .tags(tags)
+                .isPublished(true)
+                .build());
+        return id;
+    }
+
+    private static List<UUID> ids(List<SearchResultDTO> results) {
+        return results.stream().map(SearchResultDTO::getId).toList();
+    }
+}
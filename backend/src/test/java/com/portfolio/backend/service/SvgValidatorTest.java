@@ -0,0 +1,166 @@
+package com.portfolio.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SvgValidatorTest {
+
+    private static final String OPEN = "<svg xmlns=\"http://www.w3.org/2000/svg\" "
+            + "xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"10\" height=\"10\">";
+    private static final String CLOSE = "</svg>";
+
+    // Trimmed from a stock Inkscape 1.x save: sodipodi/inkscape namespaces, RDF metadata, a
+    // gradient referenced through xlink:href and url(#...), and inline styles
+    private static final String INKSCAPE = """
+            <?xml version="1.0" encoding="UTF-8" standalone="no"?>
+            <!-- Created with Inkscape (http://www.inkscape.org/) -->
+            <svg
+               width="210mm"
+               height="297mm"
+               viewBox="0 0 210 297"
+               version="1.1"
+               id="svg5"
+               inkscape:version="1.2.2 (b0a8486541, 2022-12-01)"
+               sodipodi:docname="logo.svg"
+               xmlns:inkscape="http://www.inkscape.org/namespaces/inkscape"
+               xmlns:sodipodi="http://sodipodi.sourceforge.net/DTD/sodipodi-0.dtd"
+               xmlns:xlink="http://www.w3.org/1999/xlink"
+               xmlns="http://www.w3.org/2000/svg"
+               xmlns:svg="http://www.w3.org/2000/svg"
+               xmlns:rdf="http://www.w3.org/1999/02/22-rdf-syntax-ns#"
+               xmlns:cc="http://creativecommons.org/ns#"
+               xmlns:dc="http://purl.org/dc/elements/1.1/">
+              <sodipodi:namedview
+                 id="namedview7"
+                 pagecolor="#ffffff"
+                 bordercolor="#666666"
+                 inkscape:pageshadow="2"
+                 inkscape:document-units="mm"
+                 inkscape:zoom="0.7"
+                 inkscape:current-layer="layer1" />
+              <defs id="defs2">
+                <linearGradient inkscape:collect="always" id="linearGradient1">
+                  <stop style="stop-color:#1a5fb4;stop-opacity:1" offset="0" id="stop1" />
+                  <stop style="stop-color:#1a5fb4;stop-opacity:0" offset="1" id="stop2" />
+                </linearGradient>
+                <linearGradient inkscape:collect="always" xlink:href="#linearGradient1" id="linearGradient2"
+                   x1="20" y1="20" x2="120" y2="120" gradientUnits="userSpaceOnUse" />
+              </defs>
+              <metadata id="metadata1">
+                <rdf:RDF>
+                  <cc:Work rdf:about="">
+                    <dc:format>image/svg+xml</dc:format>
+                    <dc:type rdf:resource="http://purl.org/dc/dcmitype/StillImage" />
+                  </cc:Work>
+                </rdf:RDF>
+              </metadata>
+              <g inkscape:label="Layer 1" inkscape:groupmode="layer" id="layer1">
+                <rect
+                   style="fill:url(#linearGradient2);stroke:#000000;stroke-width:0.264583"
+                   id="rect1"
+                   width="100"
+                   height="100"
+                   x="20"
+                   y="20" />
+                <path
+                   sodipodi:type="star"
+                   style="fill:#e01b24"
+                   d="m 70,40 10,20 20,3 -15,14 4,21 -19,-10 -19,10 4,-21 -15,-14 20,-3 z"
+                   id="path1"
+                   inkscape:flatsided="false" />
+                <text xml:space="preserve" style="font-size:10px;font-family:sans-serif" x="30" y="140" id="text1">
+                  <tspan sodipodi:role="line" id="tspan1" x="30" y="140">Logo</tspan>
+                </text>
+              </g>
+            </svg>
+            """;
+
+    @Test
+    void acceptsTypicalInkscapeFile() {
+        assertDoesNotThrow(() -> validate(INKSCAPE));
+    }
+
+    @Test
+    void acceptsInternalReferencesAndEmbeddedRasters() {
+        assertDoesNotThrow(() -> validate(OPEN
+                + "<defs><linearGradient id=\"g\"><stop offset=\"0\"/></linearGradient></defs>"
+                + "<rect width=\"10\" height=\"10\" fill=\"url(#g)\"/>"
+                + "<use xlink:href=\"#g\"/>"
+                + "<image href=\"data:image/png;base64,iVBORw0KGgo=\" width=\"1\" height=\"1\"/>"
+                + CLOSE));
+    }
+
+    @Test
+    void rejectsScriptElements() {
+        assertRejected(OPEN + "<script>alert(1)</script>" + CLOSE);
+    }
+
+    @Test
+    void rejectsEventHandlerAttributes() {
+        assertRejected(OPEN + "<rect width=\"10\" height=\"10\" onload=\"alert(1)\"/>" + CLOSE);
+        assertRejected(OPEN + "<g onMouseOver=\"alert(1)\"/>" + CLOSE);
+    }
+
+    @Test
+    void rejectsJavascriptHrefs() {
+        assertRejected(OPEN + "<a href=\"javascript:alert(1)\"><rect width=\"10\" height=\"10\"/></a>" + CLOSE);
+        assertRejected(OPEN + "<use xlink:href=\" JavaScript:alert(1)\"/>" + CLOSE);
+    }
+
+    @Test
+    void rejectsExternalHrefs() {
+        assertRejected(OPEN + "<image href=\"https://example.com/tracker.png\" width=\"1\" height=\"1\"/>" + CLOSE);
+    }
+
+    @Test
+    void rejectsExternalUrlReferences() {
+        assertRejected(OPEN + "<rect width=\"10\" height=\"10\" fill=\"url(https://example.com/x.svg#g)\"/>" + CLOSE);
+        assertRejected(OPEN + "<rect width=\"10\" height=\"10\" style=\"fill: url( 'https://example.com/x.svg#g' )\"/>" + CLOSE);
+        assertRejected(OPEN + "<style>rect { background: url(//example.com/x.png) }</style>" + CLOSE);
+    }
+
+    @Test
+    void rejectsStylesheetImports() {
+        assertRejected(OPEN + "<style>@import 'https://example.com/evil.css';</style>" + CLOSE);
+        assertRejected(OPEN + "<style><![CDATA[ @IMPORT url(#local); ]]></style>" + CLOSE);
+    }
+
+    @Test
+    void rejectsDoctypeInternalSubsets() {
+        assertRejected("<!DOCTYPE svg [ <!ENTITY x \"boom\"> ]>" + OPEN + "<text>&x;</text>" + CLOSE);
+        assertRejected("<!DOCTYPE svg [ <!ENTITY xxe SYSTEM \"file:///etc/passwd\"> ]>" + OPEN + "<text>&xxe;</text>" + CLOSE);
+    }
+
+    @Test
+    void rejectsForeignObject() {
+        assertRejected(OPEN + "<foreignObject width=\"10\" height=\"10\">"
+                + "<div xmlns=\"http://www.w3.org/1999/xhtml\">hi</div></foreignObject>" + CLOSE);
+    }
+
+    @Test
+    void rejectsNonSvgDocuments() {
+        assertRejected("<html xmlns=\"http://www.w3.org/1999/xhtml\"><body/></html>");
+        assertRejected(OPEN + "<rect");
+    }
+
+    private static void assertRejected(String svg) {
+        assertThrows(IllegalArgumentException.class, () -> validate(svg), svg);
+    }
+
+    private static void validate(String svg) throws IOException {
+        Path file = Files.createTempFile("svg-validator-test", ".svg");
+        try {
+            Files.writeString(file, svg, StandardCharsets.UTF_8);
+            SvgValidator.requireSafe(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
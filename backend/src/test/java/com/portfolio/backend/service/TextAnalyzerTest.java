@@ -0,0 +1,50 @@
+package com.portfolio.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextAnalyzerTest {
+
+    @Test
+    void inflectionsShareAStem() {
+        assertEquals("deploy", TextAnalyzer.stem("deploying"));
+        assertEquals("deploy", TextAnalyzer.stem("deployed"));
+        assertEquals("deploy", TextAnalyzer.stem("deploys"));
+        assertEquals("library", TextAnalyzer.stem("libraries"));
+        assertEquals("pass", TextAnalyzer.stem("passes"));
+        assertEquals("quick", TextAnalyzer.stem("quickly"));
+    }
+
+    @Test
+    void doubledConsonantsAreUndoubledExceptLsAndZ() {
+        assertEquals("run", TextAnalyzer.stem("running"));
+        assertEquals("plan", TextAnalyzer.stem("planned"));
+        assertEquals("install", TextAnalyzer.stem("installing"));
+        assertEquals("buzz", TextAnalyzer.stem("buzzing"));
+    }
+
+    @Test
+    void leavesWordsThatOnlyLookInflected() {
+        assertEquals("status", TextAnalyzer.stem("status"));
+        assertEquals("analysis", TextAnalyzer.stem("analysis"));
+        assertEquals("class", TextAnalyzer.stem("class"));
+        assertEquals("sing", TextAnalyzer.stem("sing"));
+        assertEquals("spring", TextAnalyzer.stem("spring"));
+        assertEquals("string", TextAnalyzer.stem("strings"));
+        assertEquals("shred", TextAnalyzer.stem("shred"));
+        assertEquals("bus", TextAnalyzer.stem("bus"));
+        assertEquals("html5", TextAnalyzer.stem("html5"));
+    }
+
+    @Test
+    void analyzeLowercasesSplitsAndDropsStopWords() {
+        assertEquals(List.of("deploy", "spring", "boot", "app", "kubernete"),
+                TextAnalyzer.analyze("Deploying the Spring-Boot apps to Kubernetes!"));
+        assertEquals(List.of("the", "api", "v2"), TextAnalyzer.rawTokens("The API (v2)"));
+        assertEquals(List.of(), TextAnalyzer.analyze("  "));
+        assertEquals(List.of(), TextAnalyzer.analyze(null));
+    }
+}
@@ -8,12 +8,52 @@ export interface MessageDTO {
     subject: string;
 }
 
+export interface PortfolioSnapshot {
+    profile: ProfileDTO | null;
+    skills: SkillDTO[];
+    projects: ProjectDTO[];
+    experience: Experience[];
+    education: Education[];
+    latestBlogs: any[];
+    generatedAt: string;
+}
+
+export interface SearchResult {
+    type: 'BLOG' | 'PROJECT';
+    id: string;
+    title: string;
+    slug?: string;
+    snippet: string;
+    score: number;
+}
+
+// Homepage sections mounting together share one in-flight snapshot request; once it settles the
+// next call fetches again and the browser's ETag revalidation (304) keeps that cheap
+let snapshotRequest: Promise<PortfolioSnapshot> | null = null;
+
 export interface LoginDTO {
     username?: string;
     password?: string;
     email?: string;
 }
 
+// Image uploads are processed asynchronously; poll the job until the asset is stored
+export const waitForMediaJob = async (jobId: string, intervalMs: number = 1000, timeoutMs: number = 120000) => {
+    const deadline = Date.now() + timeoutMs;
+    while (Date.now() < deadline) {
+        const { data } = await axiosInstance.get(`/admin/media/jobs/${jobId}`);
+        const job = data.data;
+        if (job.status === 'COMPLETED') {
+            return job.result;
+        }
+        if (job.status === 'FAILED') {
+            throw new Error(job.error || 'Upload failed');
+        }
+        await new Promise(resolve => setTimeout(resolve, intervalMs));
+    }
+    throw new Error('Upload is taking too long');
+};
+
 // Public APIs
 export const publicApi = {
     getProfile: async () => {
@@ -51,6 +91,20 @@ export const publicApi = {
     getEducation: async () => {
         const { data } = await axiosInstance.get('/public/education');
         return data.data;
+    },
+    getSnapshot: (): Promise<PortfolioSnapshot> => {
+        if (!snapshotRequest) {
+            snapshotRequest = axiosInstance.get('/public/snapshot')
+                .then(({ data }) => data.data as PortfolioSnapshot)
+                .finally(() => {
+                    snapshotRequest = null;
+                });
+        }
+        return snapshotRequest;
+    },
+    search: async (q: string, limit = 10): Promise<SearchResult[]> => {
+        const { data } = await axiosInstance.get('/public/search', { params: { q, limit } });
+        return data.data;
     }
 };
 
@@ -95,7 +149,8 @@ export const adminApi = {
         const { data } = await axiosInstance.post('/admin/profile/image', formData, {
             headers: { 'Content-Type': 'multipart/form-data' }
         });
-        return data;
+        const media = await waitForMediaJob(data.jobId);
+        return { url: media.url };
     },
     uploadProjectImage: async (id: string, file: File) => {
         const formData = new FormData();
@@ -103,7 +158,8 @@ export const adminApi = {
         const { data } = await axiosInstance.post(`/admin/projects/${id}/image`, formData, {
             headers: { 'Content-Type': 'multipart/form-data' }
         });
-        return data;
+        const media = await waitForMediaJob(data.jobId);
+        return { url: media.url };
     },
     uploadBlogThumbnail: async (id: string, file: File) => {
         const formData = new FormData();
@@ -111,7 +167,8 @@ export const adminApi = {
         const { data } = await axiosInstance.post(`/admin/blogs/${id}/thumbnail`, formData, {
             headers: { 'Content-Type': 'multipart/form-data' }
         });
-        return data;
+        const media = await waitForMediaJob(data.jobId);
+        return { url: media.url };
     },
     uploadSkillIcon: async (id: string, file: File) => {
         const formData = new FormData();
@@ -119,7 +176,8 @@ export const adminApi = {
         const { data } = await axiosInstance.post(`/admin/skills/${id}/icon`, formData, {
             headers: { 'Content-Type': 'multipart/form-data' }
         });
-        return data;
+        const media = await waitForMediaJob(data.jobId);
+        return { url: media.url };
     },
 
     // Media Management
@@ -130,7 +188,8 @@ export const adminApi = {
         const { data } = await axiosInstance.post('/admin/media/upload/image', formData, {
             headers: { 'Content-Type': 'multipart/form-data' }
         });
-        return data;
+        const media = await waitForMediaJob(data.data.id);
+        return { ...data, data: media };
     },
     uploadCV: async (file: File) => {
         const formData = new FormData();
@@ -152,10 +211,9 @@ export const adminApi = {
             params: { publicId }
         });
     },
-    listMedia: async (type?: 'IMAGE' | 'CV') => {
-        const { data } = await axiosInstance.get('/admin/media/list', {
-            params: type ? { type } : {}
-        });
+    listMedia: async (params: { type?: 'IMAGE' | 'CV'; active?: boolean; prefix?: string; cursor?: string; limit?: number } = {}) => {
+        // Keyset paginated: data is { items, nextCursor, hasMore }
+        const { data } = await axiosInstance.get('/admin/media/list', { params });
         return data;
     },
 
@@ -43,7 +43,7 @@ const About = () => {
   const [profile, setProfile] = useState<ProfileDTO | null>(null);
 
   useEffect(() => {
-    publicApi.getProfile().then(setProfile).catch(console.error);
+    publicApi.getSnapshot().then((snapshot) => setProfile(snapshot.profile)).catch(console.error);
   }, []);
 
   return (
@@ -12,7 +12,7 @@ const Education = () => {
     useEffect(() => {
         const fetchEducation = async () => {
             try {
-                const data = await publicApi.getEducation();
+                const data = (await publicApi.getSnapshot()).education;
                 setEducation(data);
             } catch (error) {
                 console.error("Failed to fetch education", error);
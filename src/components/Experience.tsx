@@ -11,7 +11,7 @@ const Experience = () => {
   useEffect(() => {
     const fetchExperience = async () => {
       try {
-        const data = await publicApi.getExperiences();
+        const data = (await publicApi.getSnapshot()).experience;
         if (data && Array.isArray(data)) {
           // Map API DTO to UI model
           const mapped: ExperienceData[] = data.map((exp: any) => ({
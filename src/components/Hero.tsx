@@ -12,7 +12,7 @@ const Hero = () => {
   useEffect(() => {
     const fetchProfile = async () => {
       try {
-        const data = await publicApi.getProfile();
+        const data = (await publicApi.getSnapshot()).profile;
         setProfile(data);
       } catch (error) {
         console.error('Failed to fetch profile', error);
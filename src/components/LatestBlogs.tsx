@@ -1,6 +1,6 @@
 
 import { useEffect, useState } from 'react';
-import { axiosInstance } from '@/api/axios';
+import { publicApi } from '@/api/services';
 import { Card } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
 import { Calendar, User, ArrowRight } from 'lucide-react';
@@ -25,22 +25,9 @@ const LatestBlogs = () => {
     useEffect(() => {
         const fetchPosts = async () => {
             try {
-                // Fetch normally - backend sort defaults to latest
-                const { data } = await axiosInstance.get<any>('/blogs?size=3&sort=createdAt,desc');
-                let items: any[] = [];
-
-                if (data && Array.isArray(data)) {
-                    items = data;
-                } else if (data && data.data && Array.isArray(data.data)) {
-                    items = data.data;
-                } else if (data && data.content && Array.isArray(data.content)) {
-                    items = data.content; // Spring Page content
-                } else if (data && data.data && data.data.content && Array.isArray(data.data.content)) {
-                    items = data.data.content;
-                }
-
-                // If fallback to empty
-                if (!Array.isArray(items)) items = [];
+                // Served with the rest of the homepage in the portfolio snapshot
+                const snapshot = await publicApi.getSnapshot();
+                const items: any[] = Array.isArray(snapshot.latestBlogs) ? snapshot.latestBlogs : [];
 
                 // Take only first 3 just in case API returns more
                 setPosts(items.slice(0, 3));
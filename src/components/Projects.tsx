@@ -23,7 +23,7 @@ const Projects = () => {
   useEffect(() => {
     const fetchProjects = async () => {
       try {
-        const data = await publicApi.getProjects();
+        const data = (await publicApi.getSnapshot()).projects;
         if (data && Array.isArray(data)) {
           const mapped: ProjectCardData[] = data.map(p => ({
             title: p.title,
@@ -113,7 +113,7 @@ const Skills = () => {
   useEffect(() => {
     const fetchSkills = async () => {
       try {
-        const data = await publicApi.getSkills();
+        const data = (await publicApi.getSnapshot()).skills;
         if (data && data.length > 0) {
           // Group by Category
           const groups: Record<string, SkillDTO[]> = {};
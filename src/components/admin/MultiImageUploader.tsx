@@ -123,20 +123,24 @@ export const MultiImageUploader = ({
         const uploadedUrls: string[] = [];
 
         try {
-            for (const file of selectedFiles) {
-                const formData = new FormData();
-                formData.append('file', file);
-                formData.append('folder', folder);
+            // One request for the whole selection; the server uploads the files in parallel
+            const formData = new FormData();
+            selectedFiles.forEach(file => formData.append('files', file));
+            formData.append('folder', folder);
 
-                const { data } = await axiosInstance.post('/admin/media/upload/image', formData, {
-                    headers: { 'Content-Type': 'multipart/form-data' }
-                });
+            const { data } = await axiosInstance.post('/admin/media/upload/batch', formData, {
+                headers: { 'Content-Type': 'multipart/form-data' }
+            });
 
-                // Handle ApiResponse format: { status, message, data }
-                if (data.status === 'SUCCESS' && data.data) {
-                    uploadedUrls.push(data.data.url);
+            // Handle ApiResponse format: { status, message, data: { results: [{ status, url, error }] } }
+            const results: { fileName: string; status: string; url?: string; error?: string }[] = data.data?.results || [];
+            results.forEach(result => {
+                if (result.status === 'ERROR') {
+                    toast.error(`${result.fileName} failed`, { description: result.error });
+                } else if (result.url) {
+                    uploadedUrls.push(result.url);
                 }
-            }
+            });
 
             setUploadedUrls(prev => [...prev, ...uploadedUrls]);
             setSelectedFiles([]);
@@ -4,8 +4,10 @@ import { axiosInstance } from '@/api/axios';
 import { Button } from '@/components/ui/button';
 import { Card } from '@/components/ui/card';
 import { toast } from 'sonner';
-import { Trash2, Mail, Calendar, User, ChevronDown, ChevronUp } from 'lucide-react';
+import { Trash2, Mail, Calendar, User, ChevronDown, ChevronUp, Search, CheckCheck, Download } from 'lucide-react';
 import { Badge } from '@/components/ui/badge';
+import { Checkbox } from '@/components/ui/checkbox';
+import { Input } from '@/components/ui/input';
 import { cn } from '@/lib/utils';
 
 interface Message {
@@ -17,9 +19,18 @@ interface Message {
     createdAt: string;
     ipAddress?: string;
     read: boolean;
+    duplicateCount?: number;
 }
 
-const MessageItem = ({ msg, onDelete, onRead }: { msg: Message; onDelete: (id: string) => void; onRead: (id: string) => void }) => {
+interface MessageItemProps {
+    msg: Message;
+    selected: boolean;
+    onSelect: (id: string, selected: boolean) => void;
+    onDelete: (id: string) => void;
+    onRead: (id: string) => void;
+}
+
+const MessageItem = ({ msg, selected, onSelect, onDelete, onRead }: MessageItemProps) => {
     const [expanded, setExpanded] = useState(false);
 
     const handleExpand = async () => {
@@ -52,6 +63,13 @@ const MessageItem = ({ msg, onDelete, onRead }: { msg: Message; onDelete: (id: s
         >
             <div className="p-4">
                 <div className="flex flex-col md:flex-row gap-4 items-start justify-between">
+                    <div onClick={(e) => e.stopPropagation()} className="pt-1.5">
+                        <Checkbox
+                            checked={selected}
+                            onCheckedChange={(checked) => onSelect(msg.id, checked === true)}
+                            aria-label="Select message"
+                        />
+                    </div>
                     <div className="flex-1 space-y-1">
                         <div className="flex items-center gap-2 flex-wrap">
                             <h3 className={cn("text-lg", !msg.read ? "font-bold" : "font-medium")}>
@@ -62,6 +80,11 @@ const MessageItem = ({ msg, onDelete, onRead }: { msg: Message; onDelete: (id: s
                                     NEW
                                 </Badge>
                             )}
+                            {!!msg.duplicateCount && (
+                                <Badge variant="secondary" className="text-[10px] h-5 px-1.5" title="Near-identical submissions suppressed">
+                                    +{msg.duplicateCount} similar
+                                </Badge>
+                            )}
                             <Badge variant="outline" className="text-xs font-normal text-muted-foreground border-transparent p-0">
                                 <Calendar className="w-3 h-3 mr-1 inline" />
                                 {new Date(msg.createdAt).toLocaleString()}
@@ -107,24 +130,45 @@ const MessageItem = ({ msg, onDelete, onRead }: { msg: Message; onDelete: (id: s
     );
 };
 
+const PAGE_SIZE = 50;
+
+const normalize = (m: any): Message => ({
+    ...m,
+    // Ensure compatibility with potentially different boolean naming
+    read: m.read !== undefined ? m.read : (m.isRead !== undefined ? m.isRead : false)
+});
+
 const Messages = () => {
     const [messages, setMessages] = useState<Message[]>([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [unreadOnly, setUnreadOnly] = useState(false);
+    const [search, setSearch] = useState('');
+    const [query, setQuery] = useState('');
+    const [unreadCount, setUnreadCount] = useState(0);
+    const [selected, setSelected] = useState<Set<string>>(new Set());
 
     useEffect(() => {
-        loadMessages();
-    }, []);
+        loadMessages(null);
+        loadUnreadCount();
+    }, [unreadOnly, query]);
 
-    const loadMessages = async () => {
+    const loadMessages = async (cursor: string | null) => {
+        setLoading(true);
         try {
-            const response = await axiosInstance.get<any>('/contact');
-            const msgs = Array.isArray(response.data.data) ? response.data.data : (response.data || []);
-            // Ensure compatibility with potentially different boolean naming
-            const mapMsgs = msgs.map((m: any) => ({
-                ...m,
-                read: m.read !== undefined ? m.read : (m.isRead !== undefined ? m.isRead : false)
-            }));
-            setMessages(mapMsgs);
+            const response = await axiosInstance.get<any>('/contact', {
+                params: {
+                    limit: PAGE_SIZE,
+                    cursor: cursor || undefined,
+                    unread: unreadOnly || undefined,
+                    q: query || undefined
+                }
+            });
+            const page = response.data.data;
+            const items: Message[] = (page?.items || []).map(normalize);
+            setMessages(prev => cursor ? [...prev, ...items] : items);
+            setNextCursor(page?.nextCursor || null);
+            if (!cursor) setSelected(new Set());
         } catch (err) {
             console.error(err);
             toast.error('Failed to load messages');
@@ -133,11 +177,22 @@ const Messages = () => {
         }
     };
 
+    const loadUnreadCount = async () => {
+        try {
+            const response = await axiosInstance.get<any>('/contact/unread-count');
+            setUnreadCount(response.data.data?.unread ?? 0);
+        } catch (err) {
+            console.error(err);
+        }
+    };
+
     const handleDelete = async (id: string) => {
         if (!confirm('Delete this message?')) return;
         try {
             await axiosInstance.delete(`/contact/${id}`);
             toast.success('Message deleted');
+            const removed = messages.find(m => m.id === id);
+            if (removed && !removed.read) setUnreadCount(c => Math.max(0, c - 1));
             setMessages(prev => prev.filter(m => m.id !== id));
         } catch (err) {
             toast.error('Failed to delete');
@@ -146,15 +201,92 @@ const Messages = () => {
 
     const handleReadUpdate = (id: string) => {
         setMessages(prev => prev.map(m => m.id === id ? { ...m, read: true } : m));
+        setUnreadCount(c => Math.max(0, c - 1));
+    };
+
+    const handleSelect = (id: string, isSelected: boolean) => {
+        setSelected(prev => {
+            const next = new Set(prev);
+            if (isSelected) next.add(id); else next.delete(id);
+            return next;
+        });
+    };
+
+    const handleBulkRead = async () => {
+        const ids = Array.from(selected);
+        try {
+            await axiosInstance.post('/contact/bulk/read', { ids });
+            setMessages(prev => prev.map(m => selected.has(m.id) ? { ...m, read: true } : m));
+            setSelected(new Set());
+            loadUnreadCount();
+        } catch (err) {
+            toast.error('Failed to mark messages as read');
+        }
+    };
+
+    const handleBulkDelete = async () => {
+        if (!confirm(`Delete ${selected.size} messages?`)) return;
+        const ids = Array.from(selected);
+        try {
+            const response = await axiosInstance.post<any>('/contact/bulk/delete', { ids });
+            toast.success(`${response.data.data?.deleted ?? ids.length} messages deleted`);
+            setMessages(prev => prev.filter(m => !selected.has(m.id)));
+            setSelected(new Set());
+            loadUnreadCount();
+        } catch (err) {
+            toast.error('Failed to delete messages');
+        }
     };
 
     return (
         <div className="space-y-6 max-w-5xl mx-auto">
             <div className="flex items-center justify-between">
                 <h1 className="text-3xl font-bold">Inbox</h1>
-                <Badge variant="secondary" className="text-sm">
-                    {messages.filter(m => !m.read).length} Unread
-                </Badge>
+                <div className="flex items-center gap-2">
+                    <Badge variant="secondary" className="text-sm">
+                        {unreadCount} Unread
+                    </Badge>
+                    {/* Plain navigation so the browser streams the file instead of buffering it in JS */}
+                    <Button variant="outline" size="sm" asChild>
+                        <a href={`${axiosInstance.defaults.baseURL}/admin/contact/export?format=csv`}>
+                            <Download className="w-4 h-4 mr-2" /> Export CSV
+                        </a>
+                    </Button>
+                </div>
+            </div>
+
+            <div className="flex flex-col md:flex-row gap-3 md:items-center justify-between">
+                <form
+                    className="flex gap-2 flex-1"
+                    onSubmit={(e) => {
+                        e.preventDefault();
+                        setQuery(search.trim());
+                    }}
+                >
+                    <Input
+                        placeholder="Search sender or subject..."
+                        value={search}
+                        onChange={(e) => setSearch(e.target.value)}
+                    />
+                    <Button type="submit" variant="outline" size="icon">
+                        <Search className="w-4 h-4" />
+                    </Button>
+                </form>
+                <div className="flex gap-2">
+                    <Button variant={unreadOnly ? 'default' : 'outline'} onClick={() => setUnreadOnly(v => !v)}>
+                        Unread only
+                    </Button>
+                    {selected.size > 0 && (
+                        <>
+                            <Button variant="outline" onClick={handleBulkRead}>
+                                <CheckCheck className="w-4 h-4 mr-2" /> Mark read ({selected.size})
+                            </Button>
+                            <Button variant="destructive" onClick={handleBulkDelete}>
+                                <Trash2 className="w-4 h-4 mr-2" /> Delete ({selected.size})
+                            </Button>
+                        </>
+                    )}
+                </div>
             </div>
 
             <div className="space-y-3">
@@ -162,6 +294,8 @@ const Messages = () => {
                     <MessageItem
                         key={msg.id}
                         msg={msg}
+                        selected={selected.has(msg.id)}
+                        onSelect={handleSelect}
                         onDelete={handleDelete}
                         onRead={handleReadUpdate}
                     />
@@ -173,6 +307,14 @@ const Messages = () => {
                         <p>No messages yet.</p>
                     </div>
                 )}
+
+                {nextCursor && (
+                    <div className="text-center">
+                        <Button variant="outline" disabled={loading} onClick={() => loadMessages(nextCursor)}>
+                            {loading ? 'Loading...' : 'Load more'}
+                        </Button>
+                    </div>
+                )}
             </div>
         </div>
     );